@@ -0,0 +1,55 @@
+package com.interview.test.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.test.models.PlayerGetAllResponse;
+import com.interview.test.models.PlayerItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic response bodies shared by the benchmarks
+ */
+final class BenchmarkPayloads {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String[] ROLES = {"admin", "user"};
+    private static final String[] GENDERS = {"male", "female"};
+
+    private BenchmarkPayloads() {}
+
+    static List<PlayerItem> players(int count) {
+        Random random = new Random(42);
+        List<PlayerItem> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PlayerItem item = new PlayerItem();
+            item.setId(1_000_000L + i);
+            item.setAge(17 + random.nextInt(43));
+            item.setGender(GENDERS[random.nextInt(GENDERS.length)]);
+            item.setRole(ROLES[random.nextInt(ROLES.length)]);
+            item.setScreenName("Player_" + Integer.toString(random.nextInt(Integer.MAX_VALUE), 36));
+            players.add(item);
+        }
+        return players;
+    }
+
+    /**
+     * /player/get/all body with the given number of players
+     */
+    static byte[] getAllBody(int count) throws JsonProcessingException {
+        PlayerGetAllResponse response = new PlayerGetAllResponse();
+        response.setPlayers(players(count));
+        return MAPPER.writeValueAsBytes(response);
+    }
+
+    /**
+     * Single player body as returned by create and get-by-id
+     */
+    static byte[] playerBody() {
+        return ("{\"id\":1000001,\"login\":\"test_user_20250101_120000_1234\",\"password\":\"testPassword123\","
+                + "\"role\":\"user\",\"age\":30,\"gender\":\"male\",\"screenName\":\"Player_abc123\"}").getBytes();
+    }
+}
@@ -0,0 +1,66 @@
+package com.interview.test.benchmarks;
+
+import com.interview.test.utils.TestDataFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded cost of the TestDataFactory generators next to the previous implementation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(1)
+public class DataGeneratorBenchmark {
+
+    @Benchmark
+    public String uniqueLogin() {
+        return TestDataFactory.generateUniqueLogin();
+    }
+
+    @Benchmark
+    public String uniqueLoginLegacy() {
+        return LegacyGenerators.generateUniqueLogin();
+    }
+
+    @Benchmark
+    public String screenName() {
+        return TestDataFactory.generateValidScreenName();
+    }
+
+    @Benchmark
+    public String screenNameLegacy() {
+        return LegacyGenerators.generateValidScreenName();
+    }
+
+    @Benchmark
+    public TestDataFactory.PlayerData validPlayerData() {
+        return TestDataFactory.generateValidPlayerData();
+    }
+
+    @Benchmark
+    public String largeString(LargeString state) {
+        return TestDataFactory.generateLargeString(state.length);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<TestDataFactory.PlayerData> bulkPlayerData() {
+        return TestDataFactory.generateBulkPlayerData(1000);
+    }
+
+    @State(Scope.Benchmark)
+    public static class LargeString {
+        @Param({"256", "65536"})
+        public int length;
+    }
+}
@@ -0,0 +1,11 @@
+package com.interview.test.benchmarks;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Same generators on every available core; compare with {@link DataGeneratorBenchmark} to see scaling,
+ * the legacy variants contend on the shared Random
+ */
+@Threads(Threads.MAX)
+public class DataGeneratorScalingBenchmark extends DataGeneratorBenchmark {
+}
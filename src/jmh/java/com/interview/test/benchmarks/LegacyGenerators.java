@@ -0,0 +1,32 @@
+package com.interview.test.benchmarks;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The previous TestDataFactory generation path (per-call formatting, shared Random), kept as a benchmark baseline
+ */
+final class LegacyGenerators {
+
+    private static final Random random = new Random();
+    private static final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+    private static final String[] VALID_SCREEN_NAMES = {
+            "TestPlayer", "GameMaster", "ProGamer", "CoolUser", "PlayerOne",
+            "Champion", "Warrior", "Mage", "Archer", "Knight"
+    };
+
+    private LegacyGenerators() {}
+
+    static String generateUniqueLogin() {
+        String timestamp = LocalDateTime.now().format(timeFormatter);
+        int randomSuffix = ThreadLocalRandom.current().nextInt(1000, 9999);
+        return "test_user_" + timestamp + "_" + randomSuffix;
+    }
+
+    static String generateValidScreenName() {
+        return VALID_SCREEN_NAMES[random.nextInt(VALID_SCREEN_NAMES.length)] +
+                ThreadLocalRandom.current().nextInt(1, 999);
+    }
+}
@@ -0,0 +1,97 @@
+package com.interview.test.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.interview.test.models.PlayerCreateRequest;
+import com.interview.test.models.PlayerCreateResponse;
+import com.interview.test.models.PlayerGetAllResponse;
+import com.interview.test.models.PlayerGetByIdResponse;
+import com.interview.test.models.PlayerUpdateRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson binding cost of the Player API models, the same work RestAssured does on every response
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ModelSerializationBenchmark {
+
+    private final ObjectReader getAllReader = BenchmarkPayloads.MAPPER.readerFor(PlayerGetAllResponse.class);
+    private final ObjectReader createResponseReader = BenchmarkPayloads.MAPPER.readerFor(PlayerCreateResponse.class);
+    private final ObjectReader getByIdReader = BenchmarkPayloads.MAPPER.readerFor(PlayerGetByIdResponse.class);
+    private final ObjectWriter createRequestWriter = BenchmarkPayloads.MAPPER.writerFor(PlayerCreateRequest.class);
+    private final ObjectWriter updateRequestWriter = BenchmarkPayloads.MAPPER.writerFor(PlayerUpdateRequest.class);
+
+    private byte[] playerBody;
+    private PlayerCreateRequest createRequest;
+    private PlayerUpdateRequest updateRequest;
+
+    @Setup
+    public void setUp() {
+        playerBody = BenchmarkPayloads.playerBody();
+        createRequest = PlayerCreateRequest.builder()
+                .login("test_user_20250101_120000_1234")
+                .password("testPassword123")
+                .role("user")
+                .age(30)
+                .gender("male")
+                .screenName("Player_abc123")
+                .build();
+        updateRequest = PlayerUpdateRequest.builder()
+                .age(31)
+                .screenName("Player_def456")
+                .build();
+    }
+
+    @Benchmark
+    public PlayerGetAllResponse deserializeGetAll(GetAllBody body) throws IOException {
+        return getAllReader.readValue(body.bytes);
+    }
+
+    @Benchmark
+    public PlayerCreateResponse bindCreateResponse() throws IOException {
+        return createResponseReader.readValue(playerBody);
+    }
+
+    @Benchmark
+    public PlayerGetByIdResponse bindGetByIdResponse() throws IOException {
+        return getByIdReader.readValue(playerBody);
+    }
+
+    @Benchmark
+    public byte[] serializeCreateRequest() throws IOException {
+        return createRequestWriter.writeValueAsBytes(createRequest);
+    }
+
+    @Benchmark
+    public byte[] serializeUpdateRequest() throws IOException {
+        return updateRequestWriter.writeValueAsBytes(updateRequest);
+    }
+
+    /**
+     * Get-all body per player count, kept separate so only the get-all benchmark is parameterized
+     */
+    @State(Scope.Benchmark)
+    public static class GetAllBody {
+        @Param({"10", "1000", "100000"})
+        public int players;
+
+        byte[] bytes;
+
+        @Setup
+        public void setUp() throws IOException {
+            bytes = BenchmarkPayloads.getAllBody(players);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.interview.test.benchmarks;
+
+import com.interview.test.models.PlayerCreateRequest;
+import com.interview.test.models.PlayerStore;
+import com.interview.test.utils.TestDataFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PlayerStore} against a list of PlayerCreateRequest objects: cost of filling and reading, and (printed at
+ * the end of each trial) the heap retained by each for the same players
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PlayerStoreBenchmark {
+
+    @Param({"100000"})
+    public int players;
+
+    private List<PlayerCreateRequest> requests;
+    private PlayerStore store;
+
+    @Setup
+    public void setUp() {
+        requests = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            requests.add(PlayerCreateRequest.builder()
+                    .login(TestDataFactory.generateUniqueLogin())
+                    .password("testPassword123")
+                    .role(TestDataFactory.getRandomValidRole())
+                    .age(TestDataFactory.generateValidAge())
+                    .gender(TestDataFactory.getRandomValidGender())
+                    .screenName(TestDataFactory.generateValidScreenName())
+                    .build());
+        }
+        store = fill();
+    }
+
+    @Benchmark
+    public PlayerStore fillStore() {
+        return fill();
+    }
+
+    @Benchmark
+    public void readStore(Blackhole blackhole) {
+        PlayerStore.View view = store.view();
+        for (int i = 0; i < store.size(); i++) {
+            view.moveTo(i);
+            blackhole.consume(view.getLogin());
+            blackhole.consume(view.getScreenName());
+            blackhole.consume(view.getAge());
+        }
+    }
+
+    @Benchmark
+    public void readRequests(Blackhole blackhole) {
+        for (PlayerCreateRequest request : requests) {
+            blackhole.consume(request.getLogin());
+            blackhole.consume(request.getScreenName());
+            blackhole.consume(request.getAge());
+        }
+    }
+
+    /**
+     * Retained heap of both representations, measured around a full GC; a rough figure, not a JMH result
+     */
+    @TearDown(Level.Trial)
+    public void reportFootprint() {
+        long baseline = usedHeapAfterGc();
+        List<PlayerCreateRequest> copies = new ArrayList<>(players);
+        for (PlayerCreateRequest request : requests) {
+            copies.add(PlayerCreateRequest.builder()
+                    .login(new String(request.getLogin()))
+                    .password(new String(request.getPassword()))
+                    .role(new String(request.getRole()))
+                    .age(request.getAge())
+                    .gender(new String(request.getGender()))
+                    .screenName(new String(request.getScreenName()))
+                    .build());
+        }
+        long listBytes = usedHeapAfterGc() - baseline;
+        copies.clear();
+        baseline = usedHeapAfterGc();
+        PlayerStore filled = fill();
+        long storeBytes = usedHeapAfterGc() - baseline;
+        System.out.printf(Locale.ROOT, "%nFootprint of %d players: objects %.1f MB, store %.1f MB "
+                        + "(%.1f MB used), %.1f bytes per player in the store%n", players, listBytes / 1e6,
+                storeBytes / 1e6, filled.usedBytes() / 1e6, (double) storeBytes / filled.size());
+    }
+
+    private PlayerStore fill() {
+        PlayerStore filled = new PlayerStore(players);
+        for (PlayerCreateRequest request : requests) {
+            filled.add(request);
+        }
+        return filled;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,80 @@
+package com.interview.test.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.interview.test.utils.GeneratedSchemaValidator;
+import com.interview.test.utils.JsonSchemaRegistry;
+import com.interview.test.utils.schema.PlayerGetAllSchemaValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-validation cost of reading and compiling the schema on every call (what matchesJsonSchemaInClasspath does)
+ * versus validating against the precompiled schema from {@link JsonSchemaRegistry}, and of the runtime validator
+ * versus the build-time generated one on an already parsed tree
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchemaValidationBenchmark {
+
+    static final String GET_ALL_SCHEMA = "schemas/player-get-all-schema.json";
+
+    @Param({"10", "1000"})
+    public int players;
+
+    private String body;
+    private JsonNode tree;
+    private JsonSchema runtimeValidator;
+    private GeneratedSchemaValidator generatedValidator;
+
+    @Setup
+    public void setUp() throws IOException {
+        body = new String(BenchmarkPayloads.getAllBody(players), StandardCharsets.UTF_8);
+        tree = BenchmarkPayloads.MAPPER.readTree(body);
+        runtimeValidator = JsonSchemaRegistry.get(GET_ALL_SCHEMA);
+        generatedValidator = new PlayerGetAllSchemaValidator();
+    }
+
+    @Benchmark
+    public ProcessingReport compilePerCall() throws IOException, ProcessingException {
+        JsonNode schema;
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream(GET_ALL_SCHEMA)) {
+            schema = BenchmarkPayloads.MAPPER.readTree(input);
+        }
+        return JsonSchemaFactory.byDefault().getJsonSchema(schema).validate(BenchmarkPayloads.MAPPER.readTree(body));
+    }
+
+    @Benchmark
+    public ProcessingReport registry() {
+        return JsonSchemaRegistry.validate(GET_ALL_SCHEMA, body);
+    }
+
+    @Benchmark
+    public ProcessingReport runtimeOnTree() {
+        return runtimeValidator.validateUnchecked(tree);
+    }
+
+    @Benchmark
+    public List<String> generatedOnTree() {
+        List<String> violations = new ArrayList<>();
+        generatedValidator.validate(tree, violations);
+        return violations;
+    }
+}
@@ -1,6 +1,8 @@
 package com.interview.test.api;
 
 import com.interview.test.config.ConfigurationManager;
+import com.interview.test.perf.IntervalLatencyRecorder;
+import com.interview.test.utils.FailureClassifier;
 import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
@@ -8,12 +10,15 @@ import io.restassured.builder.ResponseSpecBuilder;
 import io.restassured.filter.log.RequestLoggingFilter;
 import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * Base API Client with common configuration and utilities
@@ -23,12 +28,31 @@ public abstract class BaseApiClient {
     protected static final Logger logger = LoggerFactory.getLogger(BaseApiClient.class);
     protected static final ConfigurationManager config = ConfigurationManager.getInstance();
 
+    // last response per thread, for classifying test failures
+    private static final ThreadLocal<Response> lastResponse = new ThreadLocal<>();
+    private static final LongAdder requestRetries = new LongAdder();
+    // repeats per thread, so a load generator can tell which of its requests were repeated
+    private static final ThreadLocal<long[]> threadRequestRetries = ThreadLocal.withInitial(() -> new long[1]);
+
     static {
         // Configure RestAssured globally
         RestAssured.baseURI = config.getBaseUrl();
         RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
     }
 
+    private final boolean retriesEnabled;
+
+    protected BaseApiClient() {
+        this(true);
+    }
+
+    /**
+     * @param retriesEnabled false to send every request once, for tools that measure error rates and latencies
+     */
+    protected BaseApiClient(boolean retriesEnabled) {
+        this.retriesEnabled = retriesEnabled;
+    }
+
     /**
      * Creates a request specification with common configuration
      */
@@ -37,7 +61,12 @@ public abstract class BaseApiClient {
                 .setContentType(ContentType.JSON)
                 .setAccept(ContentType.JSON)
                 .setRelaxedHTTPSValidation()
-                .addHeader("User-Agent", "PlayerAPI-TestFramework/1.0");
+                .addHeader("User-Agent", "PlayerAPI-TestFramework/1.0")
+                .addFilter((requestSpec, responseSpec, context) -> {
+                    Response response = context.next(requestSpec, responseSpec);
+                    lastResponse.set(response);
+                    return response;
+                });
 
         // Add timeout configuration
         builder.addRequestSpecification(
@@ -84,6 +113,72 @@ public abstract class BaseApiClient {
                 .build();
     }
 
+    /**
+     * Sends an idempotent request, repeating it up to api.retry.count times after a transport error or a transient
+     * server status. Requests that change players are not repeated here: a lost response may hide a change that
+     * did happen, so their transient failures are left to the test-level retry. A client created with retries
+     * disabled sends the request once.
+     */
+    protected Response sendWithRetry(String operation, Supplier<Response> request) {
+        int retries = retriesEnabled ? config.getRetryCount() : 0;
+        for (int attempt = 1; ; attempt++) {
+            Response response = null;
+            RuntimeException failure = null;
+            try {
+                response = request.get();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            FailureClassifier.Category category = FailureClassifier.classify(failure,
+                    response != null ? response.getStatusCode() : -1);
+            if (!category.isTransient() || attempt > retries) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return response;
+            }
+            requestRetries.increment();
+            threadRequestRetries.get()[0]++;
+            logger.warn("Repeating {} after {} ({}), attempt {}/{}", operation, category,
+                    failure != null ? failure.getMessage() : "status " + response.getStatusCode(), attempt + 1,
+                    retries + 1);
+            try {
+                Thread.sleep((long) config.getRetryDelay() * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure != null) {
+                    throw failure;
+                }
+                return response;
+            }
+        }
+    }
+
+    /**
+     * Last response received on the calling thread, null when there was none since {@link #clearLastResponse()}
+     */
+    public static Response getLastResponse() {
+        return lastResponse.get();
+    }
+
+    public static void clearLastResponse() {
+        lastResponse.remove();
+    }
+
+    /**
+     * Requests repeated by {@link #sendWithRetry} so far
+     */
+    public static long getRequestRetryCount() {
+        return requestRetries.sum();
+    }
+
+    /**
+     * Requests repeated by {@link #sendWithRetry} on the calling thread so far
+     */
+    public static long getThreadRequestRetryCount() {
+        return threadRequestRetries.get()[0];
+    }
+
     /**
      * Logs API operation details
      */
@@ -95,6 +190,7 @@ public abstract class BaseApiClient {
      * Logs API operation result
      */
     protected void logResult(String operation, int statusCode, long responseTime) {
+        IntervalLatencyRecorder.record(operation, responseTime);
         logger.info("API operation: {} completed with status: {} in {}ms",
                 operation, statusCode, responseTime);
     }
@@ -1,13 +1,12 @@
 package com.interview.test.api;
 
 import com.interview.test.config.ConfigurationManager;
+import com.interview.test.utils.JsonSchemaRegistry;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
-
 /**
  * Base service class that provides common functionality for all API service classes
  * @param <T> the service type for method chaining
@@ -60,13 +59,11 @@ public abstract class BaseService<T extends BaseService<T>> {
     protected abstract String getSchemaPath();
 
     /**
-     * Generic JSON schema validation
+     * Generic JSON schema validation against the precompiled schema
      */
     @Step("Verify JSON schema compliance")
     public T verifyJsonSchema() {
-        response.then()
-                .assertThat()
-                .body(matchesJsonSchemaInClasspath(getSchemaPath()));
+        JsonSchemaRegistry.assertValid(getSchemaPath(), response.asString());
         return (T) this;
     }
 
@@ -75,9 +72,7 @@ public abstract class BaseService<T extends BaseService<T>> {
      */
     @Step("Verify JSON schema compliance against custom schema")
     public T verifyJsonSchema(String schemaPath) {
-        response.then()
-                .assertThat()
-                .body(matchesJsonSchemaInClasspath(schemaPath));
+        JsonSchemaRegistry.assertValid(schemaPath, response.asString());
         return (T) this;
     }
 
@@ -1,11 +1,25 @@
 package com.interview.test.api;
 
 import com.interview.test.models.*;
+import com.interview.test.perf.PlayerOperation;
+import com.interview.test.perf.TrafficCapture;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import static io.restassured.RestAssured.given;
 
@@ -14,11 +28,32 @@ import static io.restassured.RestAssured.given;
  */
 public class PlayerApiClient extends BaseApiClient {
 
-    private static final String CREATE_PLAYER_ENDPOINT = "/player/create/{editor}";
-    private static final String DELETE_PLAYER_ENDPOINT = "/player/delete/{editor}";
-    private static final String GET_PLAYER_ENDPOINT = "/player/get";
-    private static final String GET_ALL_PLAYERS_ENDPOINT = "/player/get/all";
-    private static final String UPDATE_PLAYER_ENDPOINT = "/player/update/{editor}/{id}";
+    public static final String CREATE_PLAYER_ENDPOINT = "/player/create/{editor}";
+    public static final String DELETE_PLAYER_ENDPOINT = "/player/delete/{editor}";
+    public static final String GET_PLAYER_ENDPOINT = "/player/get";
+    public static final String GET_ALL_PLAYERS_ENDPOINT = "/player/get/all";
+    public static final String UPDATE_PLAYER_ENDPOINT = "/player/update/{editor}/{id}";
+
+    private static final HttpClient streamingClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(config.getConnectionTimeout()))
+            .build();
+    // closes streamed bodies that stop arriving, like the socket timeout of the RestAssured requests
+    private static final ScheduledExecutorService stallWatchdog = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "player-stream-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    public PlayerApiClient() {
+    }
+
+    /**
+     * @param retriesEnabled false to send reads once instead of repeating them after transient failures
+     */
+    public PlayerApiClient(boolean retriesEnabled) {
+        super(retriesEnabled);
+    }
 
     @Step("Create player with editor: {editor}")
     public Response createPlayer(String editor, String login, String password, String role,
@@ -33,15 +68,16 @@ public class PlayerApiClient extends BaseApiClient {
         queryParams.put("gender", gender);
         queryParams.put("screenName", screenName);
 
-        Response response = given()
-                .spec(createRequestSpec())
-                .pathParam("editor", editor)
-                .queryParams(queryParams)
-                .when()
-                .get(CREATE_PLAYER_ENDPOINT)
-                .then()
-                .extract()
-                .response();
+        Response response = TrafficCapture.capture(PlayerOperation.CREATE_PLAYER, editor, null,
+                TrafficCapture.fields(login, password, role, age, gender, screenName), () -> given()
+                        .spec(createRequestSpec())
+                        .pathParam("editor", editor)
+                        .queryParams(queryParams)
+                        .when()
+                        .get(CREATE_PLAYER_ENDPOINT)
+                        .then()
+                        .extract()
+                        .response());
 
         logResult("CREATE_PLAYER", response.getStatusCode(), response.getTime());
         return response;
@@ -59,35 +95,46 @@ public class PlayerApiClient extends BaseApiClient {
         queryParams.put("gender", data.getGender());
         queryParams.put("screenName", data.getScreenName());
 
-        Response response = given()
-                .spec(createRequestSpec())
-                .pathParam("editor", editor)
-                .queryParams(queryParams)
-                .when()
-                .get(CREATE_PLAYER_ENDPOINT)
-                .then()
-                .extract()
-                .response();
+        Response response = TrafficCapture.capture(PlayerOperation.CREATE_PLAYER, editor, null,
+                TrafficCapture.fields(data.getLogin(), data.getPassword(), data.getRole(),
+                        String.valueOf(data.getAge()), data.getGender(), data.getScreenName()), () -> given()
+                        .spec(createRequestSpec())
+                        .pathParam("editor", editor)
+                        .queryParams(queryParams)
+                        .when()
+                        .get(CREATE_PLAYER_ENDPOINT)
+                        .then()
+                        .extract()
+                        .response());
 
         logResult("CREATE_PLAYER", response.getStatusCode(), response.getTime());
         return response;
     }
 
+    /**
+     * Creates a player straight from a {@link PlayerStore} view, without building a PlayerCreateRequest
+     */
+    public Response createPlayer(String editor, PlayerStore.View player) {
+        return createPlayer(editor, player.getLogin(), player.getPassword(), player.getRole(),
+                String.valueOf(player.getAge()), player.getGender(), player.getScreenName());
+    }
+
     @Step("Delete player with ID: {playerId} by editor: {editor}")
     public Response deletePlayer(String editor, Long playerId) {
         logOperation("DELETE_PLAYER", DELETE_PLAYER_ENDPOINT);
 
         PlayerDeleteRequest requestDto = new PlayerDeleteRequest(playerId);
 
-        Response response = given()
-                .spec(createRequestSpec())
-                .pathParam("editor", editor)
-                .body(requestDto)
-                .when()
-                .delete(DELETE_PLAYER_ENDPOINT)
-                .then()
-                .extract()
-                .response();
+        Response response = TrafficCapture.capture(PlayerOperation.DELETE_PLAYER, editor, playerId, null,
+                () -> given()
+                        .spec(createRequestSpec())
+                        .pathParam("editor", editor)
+                        .body(requestDto)
+                        .when()
+                        .delete(DELETE_PLAYER_ENDPOINT)
+                        .then()
+                        .extract()
+                        .response());
 
         logResult("DELETE_PLAYER", response.getStatusCode(), response.getTime());
         return response;
@@ -99,14 +146,15 @@ public class PlayerApiClient extends BaseApiClient {
 
         PlayerGetByIdRequest requestDto = new PlayerGetByIdRequest(playerId);
 
-        Response response = given()
-                .spec(createRequestSpec())
-                .body(requestDto)
-                .when()
-                .post(GET_PLAYER_ENDPOINT)
-                .then()
-                .extract()
-                .response();
+        Response response = TrafficCapture.capture(PlayerOperation.GET_PLAYER_BY_ID, null, playerId, null,
+                () -> sendWithRetry("GET_PLAYER_BY_ID", () -> given()
+                        .spec(createRequestSpec())
+                        .body(requestDto)
+                        .when()
+                        .post(GET_PLAYER_ENDPOINT)
+                        .then()
+                        .extract()
+                        .response()));
 
         logResult("GET_PLAYER_BY_ID", response.getStatusCode(), response.getTime());
         return response;
@@ -116,32 +164,67 @@ public class PlayerApiClient extends BaseApiClient {
     public Response getAllPlayers() {
         logOperation("GET_ALL_PLAYERS", GET_ALL_PLAYERS_ENDPOINT);
 
-        Response response = given()
-                .spec(createRequestSpec())
-                .when()
-                .get(GET_ALL_PLAYERS_ENDPOINT)
-                .then()
-                .extract()
-                .response();
+        Response response = TrafficCapture.capture(PlayerOperation.GET_ALL_PLAYERS, null, null, null,
+                () -> sendWithRetry("GET_ALL_PLAYERS", () -> given()
+                        .spec(createRequestSpec())
+                        .when()
+                        .get(GET_ALL_PLAYERS_ENDPOINT)
+                        .then()
+                        .extract()
+                        .response()));
 
         logResult("GET_ALL_PLAYERS", response.getStatusCode(), response.getTime());
         return response;
     }
 
+    /**
+     * Get all players with the body left on the wire, for parsing it player by player. RestAssured always buffers
+     * the whole body, so this goes through the JDK HTTP client; the caller closes the stream. Like every other
+     * request it fails after api.request.timeout without a response, and the stream is closed (failing the
+     * blocked read) when no body data arrives for that long.
+     *
+     * @throws IllegalStateException when the status is not 200
+     */
+    public InputStream openAllPlayersStream() throws IOException {
+        logOperation("GET_ALL_PLAYERS", GET_ALL_PLAYERS_ENDPOINT);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.getBaseUrl() + GET_ALL_PLAYERS_ENDPOINT))
+                .timeout(Duration.ofMillis(config.getRequestTimeout()))
+                .header("Accept", "application/json")
+                .header("User-Agent", "PlayerAPI-TestFramework/1.0")
+                .GET()
+                .build();
+        try {
+            long start = System.nanoTime();
+            HttpResponse<InputStream> response = streamingClient.send(request,
+                    HttpResponse.BodyHandlers.ofInputStream());
+            logResult("GET_ALL_PLAYERS", response.statusCode(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            if (response.statusCode() != 200) {
+                response.body().close();
+                throw new IllegalStateException("Get all players returned status " + response.statusCode());
+            }
+            return new StallTimeoutInputStream(response.body(), config.getRequestTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while requesting the player list", e);
+        }
+    }
+
     @Step("Update player with ID: {playerId} by editor: {editor}")
     public Response updatePlayer(String editor, Long playerId, PlayerUpdateRequest updateRequest) {
         logOperation("UPDATE_PLAYER", UPDATE_PLAYER_ENDPOINT);
 
-        Response response = given()
-                .spec(createRequestSpec())
-                .pathParam("editor", editor)
-                .pathParam("id", playerId)
-                .body(updateRequest)
-                .when()
-                .patch(UPDATE_PLAYER_ENDPOINT)
-                .then()
-                .extract()
-                .response();
+        Response response = TrafficCapture.capture(PlayerOperation.UPDATE_PLAYER, editor, playerId,
+                TrafficCapture.fields(updateRequest), () -> given()
+                        .spec(createRequestSpec())
+                        .pathParam("editor", editor)
+                        .pathParam("id", playerId)
+                        .body(updateRequest)
+                        .when()
+                        .patch(UPDATE_PLAYER_ENDPOINT)
+                        .then()
+                        .extract()
+                        .response());
 
         logResult("UPDATE_PLAYER", response.getStatusCode(), response.getTime());
         return response;
@@ -164,4 +247,72 @@ public class PlayerApiClient extends BaseApiClient {
                 .gender(gender)
                 .screenName(screenName).build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Closes the wrapped stream when a read blocks for longer than the timeout, which unblocks a read waiting for a
+     * body the server stopped sending. Time between reads does not count, as with a socket timeout.
+     */
+    private static class StallTimeoutInputStream extends FilterInputStream {
+        private final long timeoutNanos;
+        private final ScheduledFuture<?> check;
+        // start of the read in progress, 0 between reads
+        private volatile long readingSince;
+        private volatile boolean stalled;
+
+        StallTimeoutInputStream(InputStream in, long timeoutMillis) {
+            super(in);
+            this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            long period = Math.max(1, timeoutMillis / 4);
+            this.check = stallWatchdog.scheduleWithFixedDelay(this::closeIfStalled, period, period,
+                    TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int read() throws IOException {
+            readingSince = System.nanoTime();
+            try {
+                return super.read();
+            } catch (IOException e) {
+                throw stalled ? stallException(e) : e;
+            } finally {
+                readingSince = 0;
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            readingSince = System.nanoTime();
+            try {
+                return super.read(buffer, offset, length);
+            } catch (IOException e) {
+                throw stalled ? stallException(e) : e;
+            } finally {
+                readingSince = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            check.cancel(false);
+            super.close();
+        }
+
+        private IOException stallException(IOException cause) {
+            return new IOException("No player list data received for "
+                    + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms", cause);
+        }
+
+        private void closeIfStalled() {
+            long since = readingSince;
+            if (since == 0 || System.nanoTime() - since < timeoutNanos) {
+                return;
+            }
+            stalled = true;
+            try {
+                close();
+            } catch (IOException e) {
+                logger.debug("Closing stalled player list stream failed: {}", e.getMessage());
+            }
+        }
+    }
+}
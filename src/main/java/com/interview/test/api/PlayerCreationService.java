@@ -3,11 +3,10 @@ package com.interview.test.api;
 import com.interview.test.models.PlayerCreateRequest;
 import com.interview.test.models.PlayerCreateResponse;
 import com.interview.test.models.PlayerGetByIdResponse;
+import com.interview.test.utils.CleanupRegistry;
 import io.qameta.allure.Step;
 import org.testng.asserts.SoftAssert;
 
-import java.util.List;
-
 public class PlayerCreationService extends BaseService<PlayerCreationService> {
 
     private PlayerCreateResponse createdPlayer;
@@ -17,15 +16,13 @@ public class PlayerCreationService extends BaseService<PlayerCreationService> {
     }
 
     private final PlayerCreateRequest playerData;
-    private final List<Long> playerIds;
 
     /**
      * Constructor for positive tests - uses default editor and expectedStatusCode
      */
-    public PlayerCreationService(PlayerCreateRequest playerData, List<Long> playerIds) {
+    public PlayerCreationService(PlayerCreateRequest playerData) {
         super(); // Uses defaults: editor="supervisor", expectedStatusCode=200
         this.playerData = playerData;
-        this.playerIds = playerIds;
         executePlayerCreation();
         trackForCleanup();
     }
@@ -33,10 +30,9 @@ public class PlayerCreationService extends BaseService<PlayerCreationService> {
     /**
      * Constructor for negative tests - custom editor, default expectedStatusCode
      */
-    public PlayerCreationService(PlayerCreateRequest playerData, String editor, List<Long> playerIds) {
+    public PlayerCreationService(PlayerCreateRequest playerData, String editor) {
         super(editor); // Uses default expectedStatusCode=200
         this.playerData = playerData;
-        this.playerIds = playerIds;
         executePlayerCreation();
         trackForCleanup();
     }
@@ -44,10 +40,9 @@ public class PlayerCreationService extends BaseService<PlayerCreationService> {
     /**
      * Constructor for negative tests - custom editor and expectedStatusCode
      */
-    public PlayerCreationService(PlayerCreateRequest playerData, String editor, Integer expectedStatusCode, List<Long> playerIds) {
+    public PlayerCreationService(PlayerCreateRequest playerData, String editor, Integer expectedStatusCode) {
         super(editor, expectedStatusCode);
         this.playerData = playerData;
-        this.playerIds = playerIds;
         executePlayerCreation();
         trackForCleanup();
     }
@@ -77,8 +72,8 @@ public class PlayerCreationService extends BaseService<PlayerCreationService> {
     @Step("Track created player for cleanup")
     private void trackForCleanup() {
         if (createdPlayer != null && createdPlayer.getId() != null) {
-            playerIds.add(createdPlayer.getId());
-            logger.info("Added player ID {} to cleanup list", createdPlayer.getId());
+            CleanupRegistry.getInstance().register(createdPlayer.getId());
+            logger.info("Added player ID {} to cleanup registry", createdPlayer.getId());
         }
     }
 
@@ -115,18 +110,4 @@ public class PlayerCreationService extends BaseService<PlayerCreationService> {
     public PlayerGetByIdResponse getExpectedCreatedPlayer() {
         return this.playerData.toPlayerGetByIdResponse().setId(this.createdPlayer.getId());
     }
-
-    /**
-     * @deprecated Use the automatic cleanup tracking instead
-     * Manual tracking method kept for backward compatibility
-     */
-    @Deprecated
-    @Step("Track created player for cleanup")
-    public PlayerCreationService trackForCleanup(List<Long> playerIds) {
-        if (createdPlayer != null && createdPlayer.getId() != null) {
-            playerIds.add(createdPlayer.getId());
-            logger.info("Added player ID {} to cleanup list", createdPlayer.getId());
-        }
-        return this;
-    }
 }
\ No newline at end of file
@@ -2,9 +2,9 @@ package com.interview.test.api;
 
 
 import com.interview.test.models.PlayerItem;
+import com.interview.test.utils.CleanupRegistry;
 import io.qameta.allure.Step;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -12,15 +12,13 @@ import java.util.Optional;
 public class PlayerDeleteService extends BaseService<PlayerDeleteService> {
 
     private final Long playerId;
-    private final List<Long> playerIds;
 
     /**
      * Constructor for positive tests - uses default editor and expectedStatusCode
      */
-    public PlayerDeleteService(Long playerId, List<Long> playerIds) {
+    public PlayerDeleteService(Long playerId) {
         super(); // Uses defaults: editor="supervisor", expectedStatusCode=200
         this.playerId = playerId;
-        this.playerIds = playerIds;
         executePlayerDeletion();
         removeFromCleanup();
     }
@@ -28,10 +26,9 @@ public class PlayerDeleteService extends BaseService<PlayerDeleteService> {
     /**
      * Constructor for negative tests - custom editor, default expectedStatusCode
      */
-    public PlayerDeleteService(Long playerId, String editor, List<Long> playerIds) {
+    public PlayerDeleteService(Long playerId, String editor) {
         super(editor); // Uses default expectedStatusCode=200
         this.playerId = playerId;
-        this.playerIds = playerIds;
         executePlayerDeletion();
         removeFromCleanup();
     }
@@ -39,10 +36,9 @@ public class PlayerDeleteService extends BaseService<PlayerDeleteService> {
     /**
      * Constructor for negative tests - custom editor and expectedStatusCode
      */
-    public PlayerDeleteService(Long playerId, String editor, Integer expectedStatusCode, List<Long> playerIds) {
+    public PlayerDeleteService(Long playerId, String editor, Integer expectedStatusCode) {
         super(editor, expectedStatusCode);
         this.playerId = playerId;
-        this.playerIds = playerIds;
         executePlayerDeletion();
         removeFromCleanup();
     }
@@ -69,11 +65,11 @@ public class PlayerDeleteService extends BaseService<PlayerDeleteService> {
         }
     }
 
-    @Step("Remove deleted player from cleanup list")
+    @Step("Remove deleted player from cleanup registry")
     private void removeFromCleanup() {
-        if (response.statusCode() == getDefaultExpectedStatusCode() && playerIds != null) {
-            playerIds.remove(playerId);
-            logger.info("Removed player ID {} from cleanup list", playerId);
+        if (response.statusCode() == getDefaultExpectedStatusCode() && playerId != null
+                && CleanupRegistry.getInstance().remove(playerId)) {
+            logger.info("Removed player ID {} from cleanup registry", playerId);
         }
     }
 
@@ -1,19 +1,33 @@
     package com.interview.test.api;
 
+    import com.interview.test.config.ConfigurationManager;
     import com.interview.test.models.PlayerGetAllResponse;
     import com.interview.test.models.PlayerGetByIdResponse;
     import com.interview.test.models.PlayerItem;
+    import com.interview.test.utils.PlayerListValidator;
+    import com.interview.test.utils.StreamingArrayValidator;
+    import com.interview.test.utils.TestNamespace;
     import io.qameta.allure.Step;
     import org.testng.asserts.SoftAssert;
 
+    import java.io.IOException;
+    import java.io.InputStream;
+    import java.io.UncheckedIOException;
     import java.util.List;
     import java.util.Objects;
+    import java.util.stream.Collectors;
 
     import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
     import static org.testng.Assert.assertTrue;
 
     public class PlayerGetAllService extends BaseService<PlayerGetAllService> {
 
+        private static final StreamingArrayValidator streamingValidator = StreamingArrayValidator.fromSchema(
+                "schemas/player-get-all-schema.json", "players",
+                Integer.parseInt(ConfigurationManager.getInstance().getProperty("validation.streaming.max.violations", "10")));
+        private static final PlayerListValidator playerListValidator =
+                PlayerListValidator.fromSchema("schemas/player-get-all-schema.json", "players");
+
         private List<PlayerItem> playerList;
 
         public List<PlayerItem> getPlayerList() {
@@ -43,6 +57,53 @@
             }
         }
 
+        /**
+         * Schema validation of the players array item by item as a freshly requested body is read from the wire,
+         * without buffering it or building a tree, so memory does not grow with the player table. Alternative to
+         * verifyJsonSchema() for large player tables; needs no service instance, which would buffer the body.
+         */
+        @Step("Verify JSON schema compliance (streaming)")
+        public static void verifyJsonSchemaStreaming() {
+            List<String> violations;
+            try (InputStream body = new PlayerApiClient().openAllPlayersStream()) {
+                violations = streamingValidator.validate(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to stream the player list", e);
+            }
+            if (!violations.isEmpty()) {
+                throw new AssertionError("Get all players response does not match schema:\n  "
+                        + String.join("\n  ", violations));
+            }
+        }
+
+        /**
+         * Item rules and field invariants of this worker's players and id uniqueness of every player, in parallel
+         * chunks for large lists. Other players may be created by other tests or clients with deliberately unusual
+         * fields, so their fields are only checked when namespaces are disabled.
+         */
+        @Step("Verify players integrity")
+        public PlayerGetAllService verifyPlayersIntegrity() {
+            List<String> violations = playerListValidator.validate(playerList,
+                    item -> !TestNamespace.isEnabled() || TestNamespace.isOwn(item.getScreenName()));
+            if (!violations.isEmpty()) {
+                throw new AssertionError(violations.size() + " invalid players in get all response:\n  "
+                        + String.join("\n  ", violations));
+            }
+            return this;
+        }
+
+        /**
+         * Drops the players of other workers' namespaces, which parallel tests may change or delete at any time.
+         * Players of this worker and players created outside the tests are kept.
+         */
+        @Step("Filter players to the worker namespace")
+        public PlayerGetAllService filterToNamespace() {
+            playerList = playerList.stream()
+                    .filter(item -> !TestNamespace.isForeign(item.getScreenName()))
+                    .collect(Collectors.toList());
+            return this;
+        }
+
         @Step
         public PlayerGetAllService verifyPlayerListAmount(){
             assertTrue(playerList.size() >= 2,
@@ -85,10 +146,11 @@
         }
 
         @Step
-        public void verifyNewlyCreatedPlayerAvailability(PlayerGetByIdResponse createdPlayer) {
+        public PlayerGetAllService verifyNewlyCreatedPlayerAvailability(PlayerGetByIdResponse createdPlayer) {
             playerList.stream().filter(playerItem -> Objects.equals(playerItem.getId(), createdPlayer.getId()))
                     .findFirst()
                     .orElseThrow(()-> new AssertionError(String.format("There is not user with id{%s}", createdPlayer.getId())));
+            return this;
         }
 
     }
@@ -51,7 +51,8 @@ public class ConfigurationManager {
 
         // Override with system properties if available (from Gradle)
         System.getProperties().forEach((key, value) -> {
-            if (key.toString().startsWith("app.") || key.toString().startsWith("test.") || key.toString().startsWith("api.")) {
+            if (key.toString().startsWith("app.") || key.toString().startsWith("test.") || key.toString().startsWith("api.")
+                    || key.toString().startsWith("perf.")) {
                 properties.setProperty(key.toString(), value.toString());
                 logger.debug("System property {} -> {}", key, value);
             }
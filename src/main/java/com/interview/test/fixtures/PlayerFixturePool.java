@@ -0,0 +1,241 @@
+package com.interview.test.fixtures;
+
+import com.interview.test.api.PlayerApiClient;
+import com.interview.test.config.ConfigurationManager;
+import com.interview.test.models.PlayerCreateRequest;
+import com.interview.test.models.PlayerCreateResponse;
+import com.interview.test.models.PlayerGetByIdResponse;
+import com.interview.test.utils.CleanupRegistry;
+import com.interview.test.utils.TestRandom;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Players created ahead of the tests that need an existing player. The pool is filled concurrently in the
+ * background at suite start, refilled when it runs low and every player it created is deleted at suite end.
+ * An exclusive lease hands the player to one test that may update or delete it, so it never returns to the pool.
+ * A shared lease hands one read-only player to any number of tests; it returns to the pool when the last one
+ * releases it.
+ */
+public class PlayerFixturePool {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerFixturePool.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final PlayerFixturePool instance = new PlayerFixturePool(
+            Integer.parseInt(config.getProperty("test.fixtures.pool.size", "10")),
+            Integer.parseInt(config.getProperty("test.fixtures.pool.refill.threshold", "3")),
+            Integer.parseInt(config.getProperty("test.fixtures.concurrency", "4")),
+            Long.parseLong(config.getProperty("test.fixtures.lease.timeout.seconds", "30")));
+
+    private final int targetSize;
+    private final int refillThreshold;
+    private final int concurrency;
+    private final long leaseTimeoutSeconds;
+    private final PlayerApiClient playerApi = new PlayerApiClient();
+    private final BlockingDeque<PlayerGetByIdResponse> available = new LinkedBlockingDeque<>();
+    private final Set<Long> createdIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pendingCreations = new AtomicInteger();
+    // numbers background creations in submission order, each seeds its own test data stream
+    private final AtomicInteger nextFixtureIndex = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final ExecutorService creators;
+    private final Object sharedLock = new Object();
+    private PlayerGetByIdResponse sharedPlayer;
+    private int sharedLeases;
+
+    PlayerFixturePool(int targetSize, int refillThreshold, int concurrency, long leaseTimeoutSeconds) {
+        this.targetSize = targetSize;
+        this.refillThreshold = refillThreshold;
+        this.concurrency = Math.max(concurrency, 1);
+        this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.creators = Executors.newFixedThreadPool(this.concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "fixture-creator-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static PlayerFixturePool getInstance() {
+        return instance;
+    }
+
+    /**
+     * Starts creating the initial players in the background; returns immediately
+     */
+    public void start() {
+        if (targetSize > 0 && started.compareAndSet(false, true)) {
+            logger.info("Pre-creating {} fixture players with {} threads", targetSize, concurrency);
+            fill(targetSize);
+        }
+    }
+
+    /**
+     * Player for a test that may modify or delete it
+     */
+    public PlayerLease leaseExclusive() {
+        PlayerGetByIdResponse player = take();
+        refillIfLow();
+        return new PlayerLease(this, player, true);
+    }
+
+    /**
+     * Player for tests that only read it; the same player is shared until every shared lease is released
+     */
+    public PlayerLease leaseShared() {
+        synchronized (sharedLock) {
+            if (sharedPlayer == null) {
+                sharedPlayer = take();
+                refillIfLow();
+            }
+            sharedLeases++;
+            return new PlayerLease(this, sharedPlayer, false);
+        }
+    }
+
+    void release(PlayerLease lease) {
+        if (lease.isExclusive()) {
+            // the test may have changed or deleted the player, it is only deleted at the end
+            return;
+        }
+        synchronized (sharedLock) {
+            if (--sharedLeases == 0) {
+                available.offerFirst(sharedPlayer);
+                sharedPlayer = null;
+            }
+        }
+    }
+
+    /**
+     * Stops refilling, waits for creations in flight and deletes every player the pool created
+     */
+    public void shutdown() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        creators.shutdown();
+        try {
+            if (!creators.awaitTermination(leaseTimeoutSeconds, TimeUnit.SECONDS)) {
+                logger.warn("Fixture creation still running after {}s, deleting the players created so far",
+                        leaseTimeoutSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (createdIds.isEmpty()) {
+            return;
+        }
+
+        ExecutorService deleters = Executors.newFixedThreadPool(concurrency);
+        List<Future<?>> deletions = new ArrayList<>();
+        AtomicInteger deleted = new AtomicInteger();
+        for (Long id : createdIds) {
+            deletions.add(deleters.submit(() -> {
+                int status = playerApi.deletePlayer(config.getSupervisorEditor(), id).getStatusCode();
+                // 404: a test already deleted it
+                if (status == 200 || status == 204 || status == 404) {
+                    deleted.incrementAndGet();
+                    CleanupRegistry.getInstance().recordDeleted(id);
+                } else {
+                    logger.warn("Failed to delete fixture player {}: status {}", id, status);
+                }
+            }));
+        }
+        for (Future<?> deletion : deletions) {
+            try {
+                deletion.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.warn("Failed to delete fixture player: {}", e.getMessage());
+            }
+        }
+        deleters.shutdownNow();
+        logger.info("Deleted {}/{} fixture players", deleted.get(), createdIds.size());
+    }
+
+    /**
+     * Next pooled player, created on the calling thread when none becomes available in time
+     */
+    private PlayerGetByIdResponse take() {
+        PlayerGetByIdResponse player = null;
+        if (pendingCreations.get() > 0) {
+            try {
+                player = available.poll(leaseTimeoutSeconds, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            player = available.poll();
+        }
+        if (player == null) {
+            logger.debug("Fixture pool empty, creating a player on demand");
+            player = create();
+            if (player == null) {
+                throw new IllegalStateException("Could not create a fixture player");
+            }
+        }
+        return player;
+    }
+
+    private void refillIfLow() {
+        int missing = targetSize - available.size() - pendingCreations.get();
+        if (started.get() && !closed.get() && available.size() + pendingCreations.get() < refillThreshold
+                && missing > 0) {
+            logger.debug("Fixture pool low, creating {} more players", missing);
+            fill(missing);
+        }
+    }
+
+    private void fill(int count) {
+        pendingCreations.addAndGet(count);
+        for (int i = 0; i < count; i++) {
+            int fixtureIndex = nextFixtureIndex.getAndIncrement();
+            creators.execute(() -> {
+                try {
+                    TestRandom.reseed(PlayerFixturePool.class.getName(), fixtureIndex);
+                    PlayerGetByIdResponse player = create();
+                    if (player != null) {
+                        available.offerLast(player);
+                    }
+                } finally {
+                    pendingCreations.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private PlayerGetByIdResponse create() {
+        PlayerCreateRequest data = PlayerCreateRequest.generateValidPlayerData();
+        try {
+            Response response = playerApi.createPlayer(config.getSupervisorEditor(), data);
+            if (response.getStatusCode() != 200) {
+                logger.warn("Failed to create fixture player: status {}", response.getStatusCode());
+                return null;
+            }
+            Long id = response.as(PlayerCreateResponse.class).getId();
+            createdIds.add(id);
+            CleanupRegistry.getInstance().recordCreated(id);
+            return data.toPlayerGetByIdResponse().setId(id);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to create fixture player: {}", e.getMessage());
+            return null;
+        }
+    }
+}
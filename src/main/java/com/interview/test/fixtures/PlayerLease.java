@@ -0,0 +1,40 @@
+package com.interview.test.fixtures;
+
+import com.interview.test.models.PlayerGetByIdResponse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A pooled player held by a test, see {@link PlayerFixturePool}. Release it when the test is done.
+ */
+public class PlayerLease implements AutoCloseable {
+
+    private final PlayerFixturePool pool;
+    private final PlayerGetByIdResponse player;
+    private final boolean exclusive;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    PlayerLease(PlayerFixturePool pool, PlayerGetByIdResponse player, boolean exclusive) {
+        this.pool = pool;
+        this.player = player;
+        this.exclusive = exclusive;
+    }
+
+    /**
+     * The player as created; treat it as read-only for shared leases
+     */
+    public PlayerGetByIdResponse getPlayer() {
+        return player;
+    }
+
+    public boolean isExclusive() {
+        return exclusive;
+    }
+
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            pool.release(this);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.interview.test.listeners;
+
+import com.interview.test.config.ConfigurationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.*;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Orders test methods by their declared dependencies (dependsOnMethods, dependsOnGroups) instead of priorities,
+ * so every method without a pending dependency can run in parallel. Priorities only break ties in the order and
+ * are reset afterwards, because TestNG would otherwise run each priority level as a separate batch.
+ * Methods claiming the same {@link SharedState} are kept apart in the order and hold a read or write lock on the
+ * state while they run; everything else runs unrestricted.
+ */
+public class DependencyAwareScheduler implements IMethodInterceptor, IInvokedMethodListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DependencyAwareScheduler.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    private static final Map<String, ReentrantReadWriteLock> stateLocks = new ConcurrentHashMap<>();
+    private static final Map<ITestNGMethod, List<Claim>> claims = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Deque<Lock>> heldLocks = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!Boolean.parseBoolean(config.getProperty("test.scheduler.enabled", "true")) || methods.isEmpty()) {
+            return methods;
+        }
+        List<Node> nodes = new ArrayList<>(methods.size());
+        Map<String, List<Node>> byName = new HashMap<>();
+        Map<String, List<Node>> byGroup = new HashMap<>();
+        for (IMethodInstance instance : methods) {
+            Node node = new Node(instance, nodes.size());
+            nodes.add(node);
+            byName.computeIfAbsent(instance.getMethod().getQualifiedName(), key -> new ArrayList<>()).add(node);
+            for (String group : instance.getMethod().getGroups()) {
+                byGroup.computeIfAbsent(group, key -> new ArrayList<>()).add(node);
+            }
+            if (!node.claims.isEmpty()) {
+                claims.put(instance.getMethod(), node.claims);
+            }
+        }
+
+        int edges = 0;
+        for (Node node : nodes) {
+            Set<Node> upstream = new LinkedHashSet<>();
+            for (String method : node.method().getMethodsDependedUpon()) {
+                upstream.addAll(byName.getOrDefault(method, List.of()));
+            }
+            for (String group : node.method().getGroupsDependedUpon()) {
+                upstream.addAll(byGroup.getOrDefault(group, List.of()));
+            }
+            upstream.remove(node);
+            for (Node dependency : upstream) {
+                dependency.downstream.add(node);
+                node.pending++;
+                edges++;
+            }
+        }
+
+        List<Node> order = schedule(nodes, Math.max(config.getThreadCount(), 1));
+        List<IMethodInstance> result = new ArrayList<>(order.size());
+        int longestChain = 0;
+        for (Node node : order) {
+            longestChain = Math.max(longestChain, node.depth + 1);
+            node.method().setPriority(0);
+            result.add(node.instance);
+        }
+        long serialized = nodes.stream().filter(node -> !node.claims.isEmpty()).count();
+        logger.info("Scheduled {} test methods: {} dependency edges, longest chain {}, {} methods on shared state",
+                result.size(), edges, longestChain, serialized);
+        return result;
+    }
+
+    /**
+     * Topological order; among ready methods the lowest (priority, declaration index) goes first, skipping methods
+     * whose state conflicts with one of the last threadCount - 1 scheduled ones while another ready method does not
+     */
+    private static List<Node> schedule(List<Node> nodes, int threadCount) {
+        List<Node> ready = new ArrayList<>();
+        for (Node node : nodes) {
+            if (node.pending == 0) {
+                ready.add(node);
+            }
+        }
+        List<Node> order = new ArrayList<>(nodes.size());
+        Comparator<Node> byPriority = Comparator.comparingInt((Node node) -> node.priority).thenComparingInt(node -> node.index);
+        while (!ready.isEmpty()) {
+            ready.sort(byPriority);
+            Node next = ready.get(0);
+            List<Node> recent = order.subList(Math.max(0, order.size() - (threadCount - 1)), order.size());
+            for (Node candidate : ready) {
+                if (recent.stream().noneMatch(candidate::conflictsWith)) {
+                    next = candidate;
+                    break;
+                }
+            }
+            ready.remove(next);
+            order.add(next);
+            for (Node downstream : next.downstream) {
+                downstream.depth = Math.max(downstream.depth, next.depth + 1);
+                if (--downstream.pending == 0) {
+                    ready.add(downstream);
+                }
+            }
+        }
+        if (order.size() < nodes.size()) {
+            // cyclic dependencies: leave the rest in declaration order, TestNG reports the cycle itself
+            logger.warn("Dependency cycle among {} test methods, scheduling them in declaration order",
+                    nodes.size() - order.size());
+            for (Node node : nodes) {
+                if (node.pending > 0) {
+                    order.add(node);
+                }
+            }
+        }
+        return order;
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        List<Claim> methodClaims = claims.get(method.getTestMethod());
+        if (methodClaims == null) {
+            return;
+        }
+        Deque<Lock> held = heldLocks.get();
+        // sorted by state name, so methods claiming several states cannot deadlock
+        for (Claim claim : methodClaims) {
+            ReentrantReadWriteLock stateLock = stateLocks.computeIfAbsent(claim.state,
+                    key -> new ReentrantReadWriteLock(true));
+            Lock lock = claim.readOnly ? stateLock.readLock() : stateLock.writeLock();
+            if (!lock.tryLock()) {
+                logger.debug("{} waits for shared state {}", method.getTestMethod().getMethodName(), claim.state);
+                lock.lock();
+            }
+            held.push(lock);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        Deque<Lock> held = heldLocks.get();
+        while (!held.isEmpty()) {
+            held.pop().unlock();
+        }
+    }
+
+    /**
+     * Shared state of a method: its own annotation plus its class's; a write claim wins over a read claim
+     */
+    private static List<Claim> claimsOf(ITestNGMethod method) {
+        Map<String, Boolean> readOnly = new TreeMap<>();
+        List<SharedState> annotations = new ArrayList<>(2);
+        Class<?> testClass = method.getRealClass();
+        if (testClass != null && testClass.isAnnotationPresent(SharedState.class)) {
+            annotations.add(testClass.getAnnotation(SharedState.class));
+        }
+        Method javaMethod = method.getConstructorOrMethod().getMethod();
+        if (javaMethod != null && javaMethod.isAnnotationPresent(SharedState.class)) {
+            annotations.add(javaMethod.getAnnotation(SharedState.class));
+        }
+        for (SharedState annotation : annotations) {
+            for (String state : annotation.value()) {
+                readOnly.merge(state, annotation.readOnly(), Boolean::logicalAnd);
+            }
+        }
+        List<Claim> result = new ArrayList<>(readOnly.size());
+        readOnly.forEach((state, read) -> result.add(new Claim(state, read)));
+        return result;
+    }
+
+    /**
+     * Names of the shared states a method claims, read or write
+     */
+    static List<String> sharedStatesOf(ITestNGMethod method) {
+        List<String> states = new ArrayList<>();
+        for (Claim claim : claimsOf(method)) {
+            states.add(claim.state);
+        }
+        return states;
+    }
+
+    private static final class Claim {
+        final String state;
+        final boolean readOnly;
+
+        Claim(String state, boolean readOnly) {
+            this.state = state;
+            this.readOnly = readOnly;
+        }
+    }
+
+    private static final class Node {
+        final IMethodInstance instance;
+        final int index;
+        final int priority;
+        final List<Claim> claims;
+        final List<Node> downstream = new ArrayList<>();
+        int pending;
+        int depth;
+
+        Node(IMethodInstance instance, int index) {
+            this.instance = instance;
+            this.index = index;
+            this.priority = instance.getMethod().getPriority();
+            this.claims = claimsOf(instance.getMethod());
+        }
+
+        ITestNGMethod method() {
+            return instance.getMethod();
+        }
+
+        boolean conflictsWith(Node other) {
+            for (Claim claim : claims) {
+                for (Claim otherClaim : other.claims) {
+                    if (claim.state.equals(otherClaim.state) && !(claim.readOnly && otherClaim.readOnly)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.interview.test.listeners;
+
+import com.interview.test.config.ConfigurationManager;
+import com.interview.test.utils.TestDurationHistory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the test methods of one shard when the suite is split across test.shard.count JVMs (see ShardedTestRunner).
+ * Methods linked by dependencies or by a {@link SharedState} stay in the same shard; these units are spread over
+ * the shards longest first, each going to the shard with the least estimated time, using the durations of previous
+ * runs from test.durations.file. Every shard computes the same split, so each method runs exactly once.
+ * Does nothing unless test.shard.count is greater than 1.
+ */
+public class ShardSelector implements IMethodInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardSelector.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    private final int shardIndex;
+    private final int shardCount;
+    private final Map<String, Long> durations;
+
+    public ShardSelector() {
+        this(Integer.parseInt(config.getProperty("test.shard.index", "0")),
+                Integer.parseInt(config.getProperty("test.shard.count", "1")),
+                null);
+    }
+
+    /**
+     * @param durations historical duration per qualified method name, null to read test.durations.file
+     */
+    public ShardSelector(int shardIndex, int shardCount, Map<String, Long> durations) {
+        if (shardCount > 1 && (shardIndex < 0 || shardIndex >= shardCount)) {
+            throw new IllegalArgumentException("Shard index " + shardIndex + " is not in [0, " + shardCount + ")");
+        }
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+        this.durations = durations;
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (shardCount <= 1 || methods.isEmpty()) {
+            return methods;
+        }
+        Map<String, Long> history = durations != null ? durations : TestDurationHistory.load(
+                Paths.get(config.getProperty("test.durations.file", ".test-durations/durations.properties")));
+
+        int[] unitOf = linkedUnits(methods);
+        long fallback = fallbackDuration(history);
+        Map<Integer, Unit> units = new HashMap<>();
+        for (int i = 0; i < methods.size(); i++) {
+            ITestNGMethod method = methods.get(i).getMethod();
+            units.computeIfAbsent(unitOf[i], Unit::new)
+                    .add(method.getQualifiedName(), history.getOrDefault(method.getQualifiedName(), fallback));
+        }
+
+        // longest unit first to the least loaded shard; names break ties so every shard gets the same answer
+        List<Unit> ordered = new ArrayList<>(units.values());
+        ordered.sort(Comparator.comparingLong((Unit unit) -> -unit.millis).thenComparing(unit -> unit.name));
+        long[] load = new long[shardCount];
+        Map<Integer, Integer> shardOf = new HashMap<>();
+        for (Unit unit : ordered) {
+            int lightest = 0;
+            for (int shard = 1; shard < shardCount; shard++) {
+                if (load[shard] < load[lightest]) {
+                    lightest = shard;
+                }
+            }
+            load[lightest] += unit.millis;
+            shardOf.put(unit.id, lightest);
+        }
+
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (int i = 0; i < methods.size(); i++) {
+            if (shardOf.get(unitOf[i]) == shardIndex) {
+                selected.add(methods.get(i));
+            }
+        }
+        long total = 0;
+        for (long millis : load) {
+            total += millis;
+        }
+        logger.info("Shard {}/{}: {} of {} test methods, estimated {} ms of {} ms ({} with history)",
+                shardIndex + 1, shardCount, selected.size(), methods.size(), load[shardIndex], total,
+                methods.stream().filter(method -> history.containsKey(method.getMethod().getQualifiedName())).count());
+        return selected;
+    }
+
+    /**
+     * Unit id per method: methods connected by dependsOnMethods, dependsOnGroups or a shared state get the same id
+     */
+    private static int[] linkedUnits(List<IMethodInstance> methods) {
+        int[] parent = new int[methods.size()];
+        Map<String, List<Integer>> byName = new HashMap<>();
+        Map<String, List<Integer>> byGroup = new HashMap<>();
+        Map<String, Integer> byState = new HashMap<>();
+        for (int i = 0; i < methods.size(); i++) {
+            parent[i] = i;
+            ITestNGMethod method = methods.get(i).getMethod();
+            byName.computeIfAbsent(method.getQualifiedName(), key -> new ArrayList<>()).add(i);
+            for (String group : method.getGroups()) {
+                byGroup.computeIfAbsent(group, key -> new ArrayList<>()).add(i);
+            }
+        }
+        for (int i = 0; i < methods.size(); i++) {
+            ITestNGMethod method = methods.get(i).getMethod();
+            for (String dependency : method.getMethodsDependedUpon()) {
+                for (int other : byName.getOrDefault(dependency, List.of())) {
+                    union(parent, i, other);
+                }
+            }
+            for (String group : method.getGroupsDependedUpon()) {
+                for (int other : byGroup.getOrDefault(group, List.of())) {
+                    union(parent, i, other);
+                }
+            }
+            for (String state : DependencyAwareScheduler.sharedStatesOf(method)) {
+                Integer other = byState.putIfAbsent(state, i);
+                if (other != null) {
+                    union(parent, i, other);
+                }
+            }
+        }
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = find(parent, i);
+        }
+        return parent;
+    }
+
+    private static int find(int[] parent, int node) {
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        parent[find(parent, a)] = find(parent, b);
+    }
+
+    /**
+     * Estimate for methods without history: the mean of the known ones, or test.shard.default.duration.millis
+     */
+    private static long fallbackDuration(Map<String, Long> history) {
+        if (history.isEmpty()) {
+            return Long.parseLong(config.getProperty("test.shard.default.duration.millis", "1000"));
+        }
+        return Math.max(1, Math.round(history.values().stream().mapToLong(Long::longValue).average().orElse(1)));
+    }
+
+    private static final class Unit {
+        final int id;
+        String name;
+        long millis;
+
+        Unit(int id) {
+            this.id = id;
+        }
+
+        void add(String method, long duration) {
+            if (name == null || method.compareTo(name) < 0) {
+                name = method;
+            }
+            millis += duration;
+        }
+    }
+}
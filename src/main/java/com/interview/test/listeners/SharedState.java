@@ -0,0 +1,26 @@
+package com.interview.test.listeners;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mutable server state a test method (or every method of a class) depends on, e.g. "player-list".
+ * {@link DependencyAwareScheduler} never runs two methods claiming the same state at the same time, unless both
+ * only read it.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface SharedState {
+
+    /**
+     * The whole get-all player list: read by assertions on every player, written by tests that create players
+     * outside any test namespace
+     */
+    String PLAYER_LIST = "player-list";
+
+    String[] value();
+
+    boolean readOnly() default false;
+}
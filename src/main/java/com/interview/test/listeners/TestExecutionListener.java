@@ -1,14 +1,23 @@
 package com.interview.test.listeners;
 
+import com.interview.test.api.BaseApiClient;
 import com.interview.test.config.ConfigurationManager;
+import com.interview.test.utils.CleanupRegistry;
+import com.interview.test.utils.FailureClassifier.Category;
+import com.interview.test.utils.TestDurationHistory;
+import com.interview.test.utils.TestRandom;
 import io.qameta.allure.Allure;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.*;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
 
 import java.io.ByteArrayInputStream;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -24,6 +33,9 @@ public class TestExecutionListener implements ITestListener, ISuiteListener, IIn
     private static final AtomicInteger passedTests = new AtomicInteger(0);
     private static final AtomicInteger failedTests = new AtomicInteger(0);
     private static final AtomicInteger skippedTests = new AtomicInteger(0);
+    private static final AtomicInteger passedAfterRetry = new AtomicInteger(0);
+    // run time per qualified method name, all invocations added up
+    private static final Map<String, Long> testDurations = new ConcurrentHashMap<>();
 
     private long suiteStartTime;
     private long testStartTime;
@@ -44,6 +56,10 @@ public class TestExecutionListener implements ITestListener, ISuiteListener, IIn
         passedTests.set(0);
         failedTests.set(0);
         skippedTests.set(0);
+        passedAfterRetry.set(0);
+        testDurations.clear();
+
+        installRetryAnalyzer(suite);
     }
 
     @Override
@@ -60,6 +76,14 @@ public class TestExecutionListener implements ITestListener, ISuiteListener, IIn
         logger.info("Passed: {}", passedTests.get());
         logger.info("Failed: {}", failedTests.get());
         logger.info("Skipped: {}", skippedTests.get());
+        logger.info("Retried Attempts: {} (transport {}, server {}), {} passed after retry, {} request retries",
+                TransientFailureRetryAnalyzer.getRetryCount(),
+                TransientFailureRetryAnalyzer.getRetryCount(Category.TRANSPORT),
+                TransientFailureRetryAnalyzer.getRetryCount(Category.SERVER_TRANSIENT),
+                passedAfterRetry.get(), BaseApiClient.getRequestRetryCount());
+        CleanupRegistry cleanup = CleanupRegistry.getInstance();
+        logger.info("Cleanup: {} players tracked, {} deleted by tests, {} deleted at teardown, {} left",
+                cleanup.getRegisteredCount(), cleanup.getRemovedCount(), cleanup.getDrainedCount(), cleanup.size());
 
         if (totalTests.get() > 0) {
             double passRate = (passedTests.get() * 100.0) / totalTests.get();
@@ -68,6 +92,8 @@ public class TestExecutionListener implements ITestListener, ISuiteListener, IIn
 
         logger.info("=================================");
 
+        saveDurations();
+
         // Add summary to Allure report
         if (config.isAllureEnabled()) {
             addExecutionSummaryToAllure(duration);
@@ -78,6 +104,9 @@ public class TestExecutionListener implements ITestListener, ISuiteListener, IIn
     public void onTestStart(ITestResult result) {
         testStartTime = System.currentTimeMillis();
         totalTests.incrementAndGet();
+        BaseApiClient.clearLastResponse();
+        // same data for this invocation whichever thread runs it and whenever
+        TestRandom.reseed(result.getMethod().getQualifiedName(), result.getParameterIndex());
 
         String testName = result.getMethod().getMethodName();
         String className = result.getTestClass().getName();
@@ -96,12 +125,23 @@ public class TestExecutionListener implements ITestListener, ISuiteListener, IIn
     public void onTestSuccess(ITestResult result) {
         long duration = System.currentTimeMillis() - testStartTime;
         passedTests.incrementAndGet();
+        recordDuration(result);
 
         String testName = result.getMethod().getMethodName();
         logger.info("PASSED: {} (Duration: {} ms)", testName, duration);
 
+        int retries = retriesOf(result);
+        if (retries > 0) {
+            // reported apart, a test that only passes on retry still points at an unstable environment
+            passedAfterRetry.incrementAndGet();
+            logger.warn("PASSED AFTER RETRY: {} ({} retries)", testName, retries);
+        }
+
         if (config.isAllureEnabled()) {
             Allure.addAttachment("Test Duration", String.valueOf(duration) + " ms");
+            if (retries > 0) {
+                Allure.addAttachment("Passed After Retry", retries + " retries");
+            }
         }
     }
 
@@ -109,11 +149,14 @@ public class TestExecutionListener implements ITestListener, ISuiteListener, IIn
     public void onTestFailure(ITestResult result) {
         long duration = System.currentTimeMillis() - testStartTime;
         failedTests.incrementAndGet();
+        recordDuration(result);
 
         String testName = result.getMethod().getMethodName();
         Throwable throwable = result.getThrowable();
+        Category category = TransientFailureRetryAnalyzer.classify(result);
 
-        logger.error("FAILED: {} (Duration: {} ms)", testName, duration);
+        logger.error("FAILED: {} (Duration: {} ms, {}{})", testName, duration, category,
+                retriesOf(result) > 0 ? " after " + retriesOf(result) + " retries" : "");
         if (throwable != null) {
             logger.error("Failure reason: {}", throwable.getMessage());
             logger.error("Stack trace:", throwable);
@@ -123,6 +166,7 @@ public class TestExecutionListener implements ITestListener, ISuiteListener, IIn
             // Add failure details to Allure
             Allure.addAttachment("Test Duration", String.valueOf(duration) + " ms");
             Allure.addAttachment("Failure Reason", throwable != null ? throwable.getMessage() : "Unknown");
+            Allure.addAttachment("Failure Category", category.name());
 
             if (throwable != null) {
                 Allure.addAttachment("Stack Trace",
@@ -134,11 +178,22 @@ public class TestExecutionListener implements ITestListener, ISuiteListener, IIn
     @Override
     public void onTestSkipped(ITestResult result) {
         long duration = System.currentTimeMillis() - testStartTime;
-        skippedTests.incrementAndGet();
-
         String testName = result.getMethod().getMethodName();
         Throwable throwable = result.getThrowable();
 
+        if (result.wasRetried()) {
+            // a failed attempt that is run again, neither a test of its own nor a skip
+            totalTests.decrementAndGet();
+            Category category = TransientFailureRetryAnalyzer.classify(result);
+            logger.warn("RETRIED: {} (Duration: {} ms, {}: {})", testName, duration, category,
+                    throwable != null ? throwable.getMessage() : "no exception");
+            if (config.isAllureEnabled()) {
+                Allure.addAttachment("Retried After", category.name());
+            }
+            return;
+        }
+        skippedTests.incrementAndGet();
+
         logger.warn("SKIPPED: {} (Duration: {} ms)", testName, duration);
         if (throwable != null) {
             logger.warn("Skip reason: {}", throwable.getMessage());
@@ -172,6 +227,56 @@ public class TestExecutionListener implements ITestListener, ISuiteListener, IIn
         }
     }
 
+    /**
+     * Retries failures classified as transient on every test method that has no retry analyzer of its own
+     */
+    private void installRetryAnalyzer(ISuite suite) {
+        TransientFailureRetryAnalyzer.reset();
+        if (!TransientFailureRetryAnalyzer.isEnabled()) {
+            return;
+        }
+        for (ITestNGMethod method : suite.getAllMethods()) {
+            Class<? extends IRetryAnalyzer> own = method.getRetryAnalyzerClass();
+            if (own == null || own == DisabledRetryAnalyzer.class) {
+                method.setRetryAnalyzerClass(TransientFailureRetryAnalyzer.class);
+            }
+        }
+    }
+
+    private int retriesOf(ITestResult result) {
+        IRetryAnalyzer analyzer = result.getMethod().getRetryAnalyzer(result);
+        return analyzer instanceof TransientFailureRetryAnalyzer
+                ? ((TransientFailureRetryAnalyzer) analyzer).getAttempts() : 0;
+    }
+
+    private void recordDuration(ITestResult result) {
+        long duration = result.getEndMillis() - result.getStartMillis();
+        if (duration >= 0) {
+            testDurations.merge(result.getMethod().getQualifiedName(), duration, Long::sum);
+        }
+    }
+
+    /**
+     * Stores the measured durations for balancing test shards: a shard writes them to test.durations.output for
+     * ShardedTestRunner to merge, a single JVM run merges them into test.durations.file itself
+     */
+    private void saveDurations() {
+        if (testDurations.isEmpty() || !Boolean.parseBoolean(config.getProperty("test.durations.enabled", "true"))) {
+            return;
+        }
+        String shardOutput = config.getProperty("test.durations.output", "");
+        try {
+            if (!shardOutput.isBlank()) {
+                TestDurationHistory.write(Paths.get(shardOutput), testDurations);
+            } else {
+                TestDurationHistory.merge(Paths.get(config.getProperty("test.durations.file",
+                        ".test-durations/durations.properties")), testDurations);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to save test durations: {}", e.getMessage());
+        }
+    }
+
     private String getTestStatus(int status) {
         return switch (status) {
             case ITestResult.SUCCESS -> "PASSED";
@@ -198,7 +303,19 @@ public class TestExecutionListener implements ITestListener, ISuiteListener, IIn
         summary.append("Passed: ").append(passedTests.get()).append("\n");
         summary.append("Failed: ").append(failedTests.get()).append("\n");
         summary.append("Skipped: ").append(skippedTests.get()).append("\n");
+        summary.append("Retried Attempts: ").append(TransientFailureRetryAnalyzer.getRetryCount())
+                .append(" (transport ").append(TransientFailureRetryAnalyzer.getRetryCount(Category.TRANSPORT))
+                .append(", server ").append(TransientFailureRetryAnalyzer.getRetryCount(Category.SERVER_TRANSIENT))
+                .append(")\n");
+        summary.append("Passed After Retry: ").append(passedAfterRetry.get()).append("\n");
+        summary.append("Request Retries: ").append(BaseApiClient.getRequestRetryCount()).append("\n");
+        summary.append("Retry Budget Left: ").append(TransientFailureRetryAnalyzer.getRemainingBudget()).append("\n");
         summary.append("Total Duration: ").append(duration).append(" ms\n");
+        CleanupRegistry cleanup = CleanupRegistry.getInstance();
+        summary.append("Players Tracked For Cleanup: ").append(cleanup.getRegisteredCount()).append("\n");
+        summary.append("Deleted By Tests: ").append(cleanup.getRemovedCount()).append("\n");
+        summary.append("Deleted At Teardown: ").append(cleanup.getDrainedCount()).append("\n");
+        summary.append("Left Undeleted: ").append(cleanup.size()).append("\n");
 
         if (totalTests.get() > 0) {
             double passRate = (passedTests.get() * 100.0) / totalTests.get();
@@ -0,0 +1,122 @@
+package com.interview.test.listeners;
+
+import com.interview.test.api.BaseApiClient;
+import com.interview.test.config.ConfigurationManager;
+import com.interview.test.utils.FailureClassifier;
+import com.interview.test.utils.FailureClassifier.Category;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Re-runs a test whose failure {@link FailureClassifier} sees as transient (network error or 502/503/504), up to
+ * test.retry.max.attempts times per test and test.retry.budget times per suite, so an unstable environment cannot
+ * hide regressions behind endless retries. Assertion failures are never retried. TestExecutionListener installs it
+ * on every test method without its own retry analyzer and reports retries apart from passes and failures.
+ */
+public class TransientFailureRetryAnalyzer implements IRetryAnalyzer {
+
+    /**
+     * Result attribute holding the {@link FailureClassifier.Category} of a failed attempt
+     */
+    public static final String CATEGORY_ATTRIBUTE = "failure.category";
+
+    private static final Logger logger = LoggerFactory.getLogger(TransientFailureRetryAnalyzer.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    private static final AtomicInteger budget = new AtomicInteger();
+    private static final Map<Category, LongAdder> retries = new EnumMap<>(Category.class);
+
+    static {
+        for (Category category : Category.values()) {
+            retries.put(category, new LongAdder());
+        }
+        reset();
+    }
+
+    private final int maxAttempts = Integer.parseInt(config.getProperty("test.retry.max.attempts", "2"));
+    private final long delayMillis = Long.parseLong(config.getProperty("test.retry.delay.millis", "1000"));
+    private int attempts;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        Category category = classify(result);
+        if (!category.isTransient() || !isEnabled()) {
+            return false;
+        }
+        String test = result.getMethod().getQualifiedName();
+        if (attempts >= maxAttempts) {
+            logger.warn("{} failed with {} after {} retries, not retrying again", test, category, attempts);
+            return false;
+        }
+        if (budget.getAndUpdate(left -> left > 0 ? left - 1 : left) <= 0) {
+            logger.warn("{} failed with {}, but the retry budget of this run is used up", test, category);
+            return false;
+        }
+        attempts++;
+        retries.get(category).increment();
+        logger.warn("Retrying {} after {} failure (retry {}/{}): {}", test, category, attempts, maxAttempts,
+                result.getThrowable() != null ? result.getThrowable().getMessage() : "no exception");
+        try {
+            Thread.sleep(delayMillis * attempts);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Retries of this test so far
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Category of a failed result from its exception and the last response of the test's thread; stored on the
+     * result so the retry decision and the report agree
+     */
+    public static Category classify(ITestResult result) {
+        Object stored = result.getAttribute(CATEGORY_ATTRIBUTE);
+        if (stored instanceof Category) {
+            return (Category) stored;
+        }
+        Response response = BaseApiClient.getLastResponse();
+        Category category = FailureClassifier.classify(result.getThrowable(),
+                response != null ? response.getStatusCode() : -1);
+        result.setAttribute(CATEGORY_ATTRIBUTE, category);
+        return category;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(config.getProperty("test.retry.enabled", "true"));
+    }
+
+    public static long getRetryCount(Category category) {
+        return retries.get(category).sum();
+    }
+
+    public static long getRetryCount() {
+        return retries.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public static int getRemainingBudget() {
+        return budget.get();
+    }
+
+    /**
+     * Restores the budget and clears the counters, at suite start
+     */
+    public static void reset() {
+        budget.set(Integer.parseInt(config.getProperty("test.retry.budget", "10")));
+        retries.values().forEach(LongAdder::reset);
+    }
+}
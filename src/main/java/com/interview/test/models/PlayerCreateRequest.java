@@ -3,8 +3,7 @@ package com.interview.test.models;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
-import java.util.Random;
+import com.interview.test.utils.TestRandom;
 
 import static com.interview.test.utils.TestDataFactory.*;
 
@@ -47,8 +46,6 @@ public class PlayerCreateRequest {
             "'\"><script>alert('xss')</script>"
     };
 
-    private static final Random random = new Random();
-
     public PlayerCreateRequest() {}
 
     // Builder pattern
@@ -158,7 +155,7 @@ public class PlayerCreateRequest {
         // Start with valid data
         PlayerCreateRequest validData = generateValidPlayerData();
 
-        String injectionString = SQL_INJECTION_STRINGS[random.nextInt(SQL_INJECTION_STRINGS.length)];
+        String injectionString = SQL_INJECTION_STRINGS[TestRandom.current().nextInt(SQL_INJECTION_STRINGS.length)];
 
         // Override the target field with injection string
         switch (targetField.toLowerCase()) {
@@ -188,7 +185,7 @@ public class PlayerCreateRequest {
         // Start with valid data
         PlayerCreateRequest validData = generateValidPlayerData();
 
-        String xssString = XSS_STRINGS[random.nextInt(XSS_STRINGS.length)];
+        String xssString = XSS_STRINGS[TestRandom.current().nextInt(XSS_STRINGS.length)];
 
         // Override the target field with XSS string
         switch (targetField.toLowerCase()) {
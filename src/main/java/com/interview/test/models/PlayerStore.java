@@ -0,0 +1,289 @@
+package com.interview.test.models;
+
+import com.interview.test.config.ConfigurationManager;
+import com.interview.test.utils.TestDataFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Column-oriented storage for large numbers of generated players (seeding and load runs).
+ * Ids and ages live in primitive arrays, role, gender and password in one-byte codes of small vocabularies,
+ * logins and screen names as UTF-8 in one shared byte arena. Logins are stored without their prefix up to the
+ * last '_' (e.g. test_user_&lt;run&gt;_), which generated logins share. Read players through a {@link View}.
+ * Adding players is not thread-safe; once filled, players can be read and ids set from any thread.
+ */
+public class PlayerStore {
+
+    public static final long NO_ID = Long.MIN_VALUE;
+
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    private final Vocabulary roles = new Vocabulary("role");
+    private final Vocabulary genders = new Vocabulary("gender");
+    private final Vocabulary passwords = new Vocabulary("password");
+    private final Vocabulary loginPrefixes = new Vocabulary("login prefix");
+
+    private long[] ids;
+    private short[] ages;
+    private byte[] roleCodes;
+    private byte[] genderCodes;
+    private byte[] passwordCodes;
+    private byte[] loginPrefixCodes;
+    // textEnds[2i] ends the login suffix of player i, textEnds[2i + 1] its screen name; each starts at the previous end
+    private int[] textEnds;
+    private byte[] arena;
+    private int arenaSize;
+    private int size;
+
+    public PlayerStore(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        ids = new long[capacity];
+        ages = new short[capacity];
+        roleCodes = new byte[capacity];
+        genderCodes = new byte[capacity];
+        passwordCodes = new byte[capacity];
+        loginPrefixCodes = new byte[capacity];
+        textEnds = new int[capacity * 2];
+        arena = new byte[capacity * 24];
+    }
+
+    /**
+     * Store of count valid players built from the TestDataFactory generators
+     */
+    public static PlayerStore generate(int count) {
+        PlayerStore store = new PlayerStore(count);
+        String password = config.getProperty("default.player.password", "testPassword123");
+        for (int i = 0; i < count; i++) {
+            store.add(TestDataFactory.generateUniqueLogin(), password, TestDataFactory.getRandomValidRole(),
+                    TestDataFactory.generateValidAge(), TestDataFactory.getRandomValidGender(),
+                    TestDataFactory.generateValidScreenName());
+        }
+        return store;
+    }
+
+    /**
+     * @return index of the added player; password, role and gender may be null
+     */
+    public int add(String login, String password, String role, int age, String gender, String screenName) {
+        Objects.requireNonNull(login, "login");
+        Objects.requireNonNull(screenName, "screenName");
+        if (age < Short.MIN_VALUE || age > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Age out of range: " + age);
+        }
+        ensureCapacity(size + 1);
+        int index = size;
+        ids[index] = NO_ID;
+        ages[index] = (short) age;
+        roleCodes[index] = roles.code(role);
+        genderCodes[index] = genders.code(gender);
+        passwordCodes[index] = passwords.code(password);
+
+        int prefixEnd = login.lastIndexOf('_') + 1;
+        byte prefixCode = prefixEnd > 0 ? loginPrefixes.codeIfRoom(login.substring(0, prefixEnd)) : 0;
+        loginPrefixCodes[index] = prefixCode;
+        textEnds[2 * index] = append(prefixCode == 0 ? login : login.substring(prefixEnd));
+        textEnds[2 * index + 1] = append(screenName);
+        size++;
+        return index;
+    }
+
+    /**
+     * @throws IllegalArgumentException when the request has no age, which the store cannot represent
+     */
+    public int add(PlayerCreateRequest player) {
+        if (player.getAge() == null) {
+            throw new IllegalArgumentException("Player " + player.getLogin() + " has no age");
+        }
+        return add(player.getLogin(), player.getPassword(), player.getRole(), player.getAge(), player.getGender(),
+                player.getScreenName());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void setId(int index, long id) {
+        ids[checkIndex(index)] = id;
+    }
+
+    /**
+     * A view positioned on the first player; reuse it with {@link View#moveTo(int)}
+     */
+    public View view() {
+        return new View();
+    }
+
+    public View view(int index) {
+        return new View().moveTo(index);
+    }
+
+    /**
+     * Bytes used by the columns and the arena, excluding unused capacity
+     */
+    public long usedBytes() {
+        return size * (8L + 2 + 4 + 2 * 4) + arenaSize;
+    }
+
+    private int append(String text) {
+        int length = text.length();
+        boolean ascii = true;
+        for (int i = 0; i < length && ascii; i++) {
+            ascii = text.charAt(i) < 0x80;
+        }
+        if (ascii) {
+            ensureArena(length);
+            for (int i = 0; i < length; i++) {
+                arena[arenaSize++] = (byte) text.charAt(i);
+            }
+        } else {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            ensureArena(bytes.length);
+            System.arraycopy(bytes, 0, arena, arenaSize, bytes.length);
+            arenaSize += bytes.length;
+        }
+        return arenaSize;
+    }
+
+    private String text(int slot) {
+        int start = slot == 0 ? 0 : textEnds[slot - 1];
+        return new String(arena, start, textEnds[slot] - start, StandardCharsets.UTF_8);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Player " + index + " of " + size);
+        }
+        return index;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        roleCodes = Arrays.copyOf(roleCodes, capacity);
+        genderCodes = Arrays.copyOf(genderCodes, capacity);
+        passwordCodes = Arrays.copyOf(passwordCodes, capacity);
+        loginPrefixCodes = Arrays.copyOf(loginPrefixCodes, capacity);
+        textEnds = Arrays.copyOf(textEnds, capacity * 2);
+    }
+
+    private void ensureArena(int extra) {
+        if (arenaSize + extra > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arenaSize + extra, arena.length + (arena.length >> 1)));
+        }
+    }
+
+    /**
+     * Flyweight over one player of the store; strings are decoded on each call
+     */
+    public final class View {
+        private int index;
+
+        private View() {}
+
+        public View moveTo(int index) {
+            this.index = checkIndex(index);
+            return this;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return the id set after creation, or {@link #NO_ID}
+         */
+        public long getId() {
+            return ids[index];
+        }
+
+        public String getLogin() {
+            byte prefixCode = loginPrefixCodes[index];
+            String suffix = text(2 * index);
+            return prefixCode == 0 ? suffix : loginPrefixes.value(prefixCode) + suffix;
+        }
+
+        public String getPassword() {
+            return passwords.value(passwordCodes[index]);
+        }
+
+        public String getRole() {
+            return roles.value(roleCodes[index]);
+        }
+
+        public int getAge() {
+            return ages[index];
+        }
+
+        public String getGender() {
+            return genders.value(genderCodes[index]);
+        }
+
+        public String getScreenName() {
+            return text(2 * index + 1);
+        }
+
+        public PlayerCreateRequest toCreateRequest() {
+            return PlayerCreateRequest.builder()
+                    .login(getLogin())
+                    .password(getPassword())
+                    .role(getRole())
+                    .age(getAge())
+                    .gender(getGender())
+                    .screenName(getScreenName())
+                    .build();
+        }
+    }
+
+    /**
+     * Up to 255 distinct values by one-byte code; code 0 is null
+     */
+    private static final class Vocabulary {
+        private final String name;
+        private final Map<String, Byte> codes = new HashMap<>();
+        private final String[] values = new String[256];
+        private int next = 1;
+
+        Vocabulary(String name) {
+            this.name = name;
+        }
+
+        byte code(String value) {
+            byte code = codeIfRoom(value);
+            if (code == 0 && value != null) {
+                throw new IllegalStateException("More than 255 distinct " + name + " values");
+            }
+            return code;
+        }
+
+        /**
+         * @return the value's code, or 0 when it is null or the vocabulary is full
+         */
+        byte codeIfRoom(String value) {
+            if (value == null) {
+                return 0;
+            }
+            Byte code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            if (next > 255) {
+                return 0;
+            }
+            values[next] = value;
+            codes.put(value, (byte) next);
+            return (byte) next++;
+        }
+
+        String value(byte code) {
+            return values[code & 0xFF];
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.interview.test.perf;
+
+import com.interview.test.config.ConfigurationManager;
+import com.interview.test.utils.TestDataFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Converts a production access log (Common/Combined Log Format, optionally followed by a request time field)
+ * into a traffic capture file that {@link TrafficReplayer} can replay with the original inter-arrival times.
+ * The log is streamed through {@link MappedLineReader}, so memory stays flat regardless of the log size.
+ * <p>
+ * Production player ids are remapped to a pool of perf.seed.players test players that the capture creates
+ * itself at offset zero; players created by the log are tracked with synthetic ids so later deletes hit them.
+ */
+public class AccessLogImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogImporter.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final DateTimeFormatter logTimeFormatter =
+            DateTimeFormatter.ofPattern("dd/MMM/yyyy:HH:mm:ss Z", Locale.ENGLISH);
+
+    private static final int MAX_PENDING_CREATES = 100_000;
+
+    private final Map<PlayerOperation, Pattern> endpointPatterns = new EnumMap<>(PlayerOperation.class);
+    private final Map<PlayerOperation, Long> imported = new EnumMap<>(PlayerOperation.class);
+    private final ArrayDeque<Long> pendingCreates = new ArrayDeque<>();
+    private final int seedPlayers;
+    private final long seedLeadMicros;
+    private final long latencyUnitMicros;
+
+    private long nextSyntheticId;
+    private long getCursor;
+    private long linesRead;
+    private long skippedLines;
+    private long seededDeletes;
+
+    private String lastTimestamp;
+    private long lastEpochMicros;
+    private long firstEpochMicros = Long.MIN_VALUE;
+
+    public AccessLogImporter(int seedPlayers, long seedLeadMicros, long latencyUnitMicros) {
+        if (seedPlayers < 1) {
+            throw new IllegalArgumentException("At least one seed player is required for id remapping");
+        }
+        this.seedPlayers = seedPlayers;
+        this.seedLeadMicros = seedLeadMicros;
+        this.latencyUnitMicros = latencyUnitMicros;
+        for (PlayerOperation operation : PlayerOperation.values()) {
+            endpointPatterns.put(operation, toPattern(operation.getEndpoint()));
+            imported.put(operation, 0L);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String file = config.getProperty("perf.import.log");
+        if (file == null || file.isBlank()) {
+            throw new IllegalArgumentException("perf.import.log must point to an access log file");
+        }
+        Path log = Paths.get(file);
+        String output = config.getProperty("perf.import.output");
+        Path capture = output != null && !output.isBlank() ? Paths.get(output)
+                : PerfSettings.getResultsDir().resolve(log.getFileName() + ".tcap");
+
+        long seedLeadMicros = TimeUnit.SECONDS.toMicros(
+                Long.parseLong(config.getProperty("perf.import.seed.lead.seconds", "5")));
+        long latencyUnitMicros = switch (config.getProperty("perf.import.latency.unit", "s").toLowerCase(Locale.ROOT)) {
+            case "us" -> 1;
+            case "ms" -> 1_000;
+            default -> 1_000_000;
+        };
+
+        AccessLogImporter importer = new AccessLogImporter(PerfSettings.getSeedPlayers(), seedLeadMicros, latencyUnitMicros);
+        importer.importLog(log, capture);
+    }
+
+    /**
+     * Streams the log into a capture file
+     */
+    public void importLog(Path log, Path capture) throws IOException {
+        long start = System.nanoTime();
+        try (MappedLineReader reader = new MappedLineReader(log, StandardCharsets.ISO_8859_1);
+             TrafficCaptureFile.Writer writer = TrafficCaptureFile.openWriter(capture)) {
+            writeSeedPrologue(writer);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                linesRead++;
+                CapturedRequest request = parse(line);
+                if (request == null) {
+                    skippedLines++;
+                    continue;
+                }
+                writer.write(request);
+                imported.merge(request.getOperation(), 1L, Long::sum);
+            }
+        }
+
+        logger.info("Imported {} of {} log lines from {} into {} in {} ms ({} seed players, {} unmatched lines)",
+                linesRead - skippedLines, linesRead, log, capture.toAbsolutePath(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), seedPlayers, skippedLines);
+        imported.forEach((operation, count) -> logger.info("  {}: {}", operation, count));
+        if (seededDeletes > 0) {
+            logger.warn("{} deletes had no preceding imported create and target seed players instead", seededDeletes);
+        }
+    }
+
+    /**
+     * Seed players are created by the replay itself so the capture works against any environment; their fields
+     * come from {@link TestDataFactory} so the server accepts them
+     */
+    private void writeSeedPrologue(TrafficCaptureFile.Writer writer) throws IOException {
+        String password = config.getProperty("default.player.password", "testPassword123");
+        for (int i = 0; i < seedPlayers; i++) {
+            writer.write(new CapturedRequest(PlayerOperation.CREATE_PLAYER, 0, config.getSupervisorEditor(), null,
+                    TrafficCapture.fields(TestDataFactory.generateUniqueLogin(), password,
+                            TestDataFactory.getRandomValidRole(), String.valueOf(TestDataFactory.generateValidAge()),
+                            TestDataFactory.getRandomValidGender(), TestDataFactory.generateValidScreenName()),
+                    PlayerOperation.CREATE_PLAYER.getExpectedStatusCode(), 0, syntheticId(i)));
+        }
+        nextSyntheticId = seedPlayers;
+    }
+
+    /**
+     * @return the request for one log line, or null when the line is not a Player API request
+     */
+    CapturedRequest parse(String line) {
+        int timeStart = line.indexOf('[');
+        int timeEnd = line.indexOf(']', timeStart + 1);
+        int requestStart = line.indexOf('"', timeEnd + 1);
+        int requestEnd = line.indexOf('"', requestStart + 1);
+        if (timeStart < 0 || timeEnd < 0 || requestStart < 0 || requestEnd < 0) {
+            return null;
+        }
+
+        String[] request = line.substring(requestStart + 1, requestEnd).split(" ");
+        if (request.length < 2) {
+            return null;
+        }
+        String method = request[0];
+        String requestTarget = request[1];
+        int queryStart = requestTarget.indexOf('?');
+        String path = queryStart >= 0 ? requestTarget.substring(0, queryStart) : requestTarget;
+        String query = queryStart >= 0 ? requestTarget.substring(queryStart + 1) : "";
+
+        PlayerOperation operation = null;
+        Matcher matcher = null;
+        for (Map.Entry<PlayerOperation, Pattern> entry : endpointPatterns.entrySet()) {
+            if (entry.getKey().getMethod().equals(method)) {
+                Matcher candidate = entry.getValue().matcher(path);
+                if (candidate.matches()) {
+                    operation = entry.getKey();
+                    matcher = candidate;
+                    break;
+                }
+            }
+        }
+        if (operation == null) {
+            return null;
+        }
+
+        long epochMicros = parseTime(line.substring(timeStart + 1, timeEnd));
+        if (epochMicros == Long.MIN_VALUE) {
+            return null;
+        }
+        if (firstEpochMicros == Long.MIN_VALUE) {
+            firstEpochMicros = epochMicros;
+        }
+        // access logs are written on completion, so slightly out-of-order lines are clamped to the start
+        long offsetMicros = seedLeadMicros + Math.max(0, epochMicros - firstEpochMicros);
+
+        String[] tail = line.substring(requestEnd + 1).trim().split(" ");
+        int statusCode = parseInt(tail[0], 0);
+        // a trailing request time field follows the status and size (Common) or the user agent (Combined)
+        long latencyMicros = tail.length > 2 && !line.endsWith("\"") ? parseLatency(tail[tail.length - 1]) : 0;
+
+        String editor = operation == PlayerOperation.CREATE_PLAYER || operation == PlayerOperation.UPDATE_PLAYER
+                || operation == PlayerOperation.DELETE_PLAYER ? mapEditor(matcher.group("editor")) : null;
+
+        return switch (operation) {
+            case CREATE_PLAYER -> {
+                Map<String, String> params = parseQuery(query);
+                Long resultId = null;
+                if (statusCode == PlayerOperation.CREATE_PLAYER.getExpectedStatusCode()) {
+                    resultId = syntheticId(nextSyntheticId++);
+                    if (pendingCreates.size() == MAX_PENDING_CREATES) {
+                        pendingCreates.pollFirst();
+                    }
+                    pendingCreates.addLast(resultId);
+                }
+                yield new CapturedRequest(operation, offsetMicros, editor, null,
+                        TrafficCapture.fields(params.get("login"), params.get("password"), params.get("role"),
+                                params.get("age"), params.get("gender"), params.get("screenName")),
+                        statusCode, latencyMicros, resultId);
+            }
+            case GET_PLAYER_BY_ID -> new CapturedRequest(operation, offsetMicros, null,
+                    syntheticId(getCursor++ % seedPlayers), null, statusCode, latencyMicros, null);
+            case GET_ALL_PLAYERS -> new CapturedRequest(operation, offsetMicros, null, null, null,
+                    statusCode, latencyMicros, null);
+            case UPDATE_PLAYER -> new CapturedRequest(operation, offsetMicros, editor,
+                    syntheticId(Math.floorMod(matcher.group("id").hashCode(), seedPlayers)),
+                    TrafficCapture.fields(null, null, null, String.valueOf(18 + (int) (linesRead % 40)), null, null),
+                    statusCode, latencyMicros, null);
+            case DELETE_PLAYER -> {
+                Long target = pendingCreates.pollFirst();
+                if (target == null) {
+                    seededDeletes++;
+                    target = syntheticId(linesRead % seedPlayers);
+                }
+                yield new CapturedRequest(operation, offsetMicros, editor, target, null,
+                        statusCode, latencyMicros, null);
+            }
+        };
+    }
+
+    /**
+     * Synthetic ids are negative so they never collide with real player ids and are remapped during replay
+     */
+    private static long syntheticId(long index) {
+        return -(index + 1);
+    }
+
+    private String mapEditor(String editor) {
+        return config.getAdminEditor().equals(editor) ? editor : config.getSupervisorEditor();
+    }
+
+    private long parseTime(String timestamp) {
+        if (timestamp.equals(lastTimestamp)) {
+            return lastEpochMicros;
+        }
+        try {
+            ZonedDateTime time = ZonedDateTime.parse(timestamp, logTimeFormatter);
+            lastTimestamp = timestamp;
+            lastEpochMicros = TimeUnit.SECONDS.toMicros(time.toEpochSecond());
+            return lastEpochMicros;
+        } catch (DateTimeParseException e) {
+            logger.debug("Unparseable log timestamp '{}'", timestamp);
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private long parseLatency(String field) {
+        try {
+            return (long) (Double.parseDouble(field) * latencyUnitMicros);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Turns an endpoint template such as /player/update/{editor}/{id} into a regex with named groups
+     */
+    static Pattern toPattern(String endpoint) {
+        StringBuilder regex = new StringBuilder();
+        Matcher placeholder = Pattern.compile("\\{(\\w+)}").matcher(endpoint);
+        int last = 0;
+        while (placeholder.find()) {
+            regex.append(Pattern.quote(endpoint.substring(last, placeholder.start())))
+                    .append("(?<").append(placeholder.group(1)).append(">[^/]+)");
+            last = placeholder.end();
+        }
+        regex.append(Pattern.quote(endpoint.substring(last))).append("/?");
+        return Pattern.compile(regex.toString());
+    }
+}
@@ -0,0 +1,128 @@
+package com.interview.test.perf;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * One Player API request as stored in a traffic capture file.
+ * Player fields are kept as strings in the order login, password, role, age, gender, screenName,
+ * which covers both create query parameters and the update body.
+ */
+public class CapturedRequest {
+
+    public static final int FIELD_COUNT = 6;
+
+    private static final int HAS_EDITOR = 1;
+    private static final int HAS_PLAYER_ID = 1 << 1;
+    private static final int HAS_RESULT_ID = 1 << 2;
+
+    private final PlayerOperation operation;
+    private final long offsetMicros;
+    private final String editor;
+    private final Long playerId;
+    private final String[] fields;
+    private final int statusCode;
+    private final long latencyMicros;
+    private final Long resultId;
+
+    public CapturedRequest(PlayerOperation operation, long offsetMicros, String editor, Long playerId,
+                           String[] fields, int statusCode, long latencyMicros, Long resultId) {
+        this.operation = operation;
+        this.offsetMicros = offsetMicros;
+        this.editor = editor;
+        this.playerId = playerId;
+        this.fields = fields != null ? fields : new String[FIELD_COUNT];
+        this.statusCode = statusCode;
+        this.latencyMicros = latencyMicros;
+        this.resultId = resultId;
+    }
+
+    public PlayerOperation getOperation() { return operation; }
+    public long getOffsetMicros() { return offsetMicros; }
+    public String getEditor() { return editor; }
+    public Long getPlayerId() { return playerId; }
+    public String[] getFields() { return fields; }
+    public int getStatusCode() { return statusCode; }
+    public long getLatencyMicros() { return latencyMicros; }
+    public Long getResultId() { return resultId; }
+
+    public String getLogin() { return fields[0]; }
+    public String getPassword() { return fields[1]; }
+    public String getRole() { return fields[2]; }
+    public String getAge() { return fields[3]; }
+    public String getGender() { return fields[4]; }
+    public String getScreenName() { return fields[5]; }
+
+    public void writeTo(DataOutput out) throws IOException {
+        int flags = (editor != null ? HAS_EDITOR : 0)
+                | (playerId != null ? HAS_PLAYER_ID : 0)
+                | (resultId != null ? HAS_RESULT_ID : 0);
+        int fieldMask = 0;
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            if (fields[i] != null) {
+                fieldMask |= 1 << i;
+            }
+        }
+
+        out.writeByte(operation.ordinal());
+        out.writeByte(flags);
+        out.writeByte(fieldMask);
+        writeVarLong(out, offsetMicros);
+        writeVarLong(out, latencyMicros);
+        out.writeShort(statusCode);
+        if (editor != null) out.writeUTF(editor);
+        if (playerId != null) writeVarLong(out, zigZag(playerId));
+        if (resultId != null) writeVarLong(out, zigZag(resultId));
+        for (String field : fields) {
+            if (field != null) out.writeUTF(field);
+        }
+    }
+
+    public static CapturedRequest readFrom(DataInput in) throws IOException {
+        PlayerOperation operation = PlayerOperation.values()[in.readUnsignedByte()];
+        int flags = in.readUnsignedByte();
+        int fieldMask = in.readUnsignedByte();
+        long offset = readVarLong(in);
+        long latency = readVarLong(in);
+        int status = in.readUnsignedShort();
+        String editor = (flags & HAS_EDITOR) != 0 ? in.readUTF() : null;
+        Long playerId = (flags & HAS_PLAYER_ID) != 0 ? unZigZag(readVarLong(in)) : null;
+        Long resultId = (flags & HAS_RESULT_ID) != 0 ? unZigZag(readVarLong(in)) : null;
+        String[] fields = new String[FIELD_COUNT];
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            if ((fieldMask & (1 << i)) != 0) {
+                fields[i] = in.readUTF();
+            }
+        }
+        return new CapturedRequest(operation, offset, editor, playerId, fields, status, latency, resultId);
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length number in capture");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.interview.test.perf;
+
+import com.interview.test.config.ConfigurationManager;
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads a log written by {@link IntervalLatencyRecorder}, keeps the intervals inside a time range
+ * (seconds relative to the log start) and recomputes per-operation percentiles over that slice.
+ */
+public class IntervalLatencyLogReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(IntervalLatencyLogReader.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    public static void main(String[] args) throws IOException {
+        String path = config.getProperty("perf.latency.log.file");
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("perf.latency.log.file must point to a latency .hlog file");
+        }
+        double from = Double.parseDouble(config.getProperty("perf.latency.log.from", "0"));
+        double to = Double.parseDouble(config.getProperty("perf.latency.log.to", String.valueOf(Double.MAX_VALUE)));
+
+        Map<String, Histogram> slice = slice(new File(path), from, to);
+        logger.info("\n{}", format(slice, from, to));
+    }
+
+    /**
+     * Merges all interval histograms within [fromSeconds, toSeconds] per operation tag
+     */
+    public static Map<String, Histogram> slice(File log, double fromSeconds, double toSeconds) throws IOException {
+        Map<String, Histogram> merged = new TreeMap<>();
+        HistogramLogReader reader = new HistogramLogReader(log);
+        try {
+            EncodableHistogram interval;
+            while ((interval = reader.nextIntervalHistogram(fromSeconds, toSeconds)) != null) {
+                if (interval instanceof Histogram histogram) {
+                    String tag = histogram.getTag() != null ? histogram.getTag() : "untagged";
+                    merged.computeIfAbsent(tag, key -> new Histogram(3)).add(histogram);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return merged;
+    }
+
+    public static String format(Map<String, Histogram> slice, double fromSeconds, double toSeconds) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "LATENCY SLICE %.0fs - %s%n", fromSeconds,
+                toSeconds == Double.MAX_VALUE ? "end" : String.format(Locale.ROOT, "%.0fs", toSeconds)));
+        table.append(String.format(Locale.ROOT, "%-18s %10s %9s %9s %9s %9s %9s%n",
+                "Operation", "Count", "mean ms", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        slice.forEach((operation, histogram) -> table.append(String.format(Locale.ROOT,
+                "%-18s %10d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, histogram.getTotalCount(), histogram.getMean() / 1000.0,
+                histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxValue() / 1000.0)));
+        return table.toString();
+    }
+}
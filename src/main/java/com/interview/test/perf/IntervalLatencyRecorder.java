@@ -0,0 +1,122 @@
+package com.interview.test.perf;
+
+import com.interview.test.config.ConfigurationManager;
+import com.interview.test.utils.UniqueIdGenerator;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latency of every Player API call into per-operation HdrHistogram recorders and appends
+ * one compressed interval histogram per operation to an HdrHistogram log every few seconds.
+ * Recording is wait-free; all encoding and file I/O happens on a background thread.
+ * Enabled with perf.latency.log.enabled=true, read back with {@link IntervalLatencyLogReader}.
+ */
+public final class IntervalLatencyRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(IntervalLatencyRecorder.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final DateTimeFormatter fileFormatter = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(config.getProperty("perf.latency.log.enabled", "false"));
+    private static final IntervalLatencyRecorder INSTANCE = ENABLED ? start() : null;
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> recycled = new ConcurrentHashMap<>();
+    private final HistogramLogWriter writer;
+    private final ScheduledExecutorService flusher;
+    private final Path file;
+
+    private IntervalLatencyRecorder(Path file, long intervalMillis) throws IOException {
+        this.file = file;
+        Files.createDirectories(file.getParent());
+        this.writer = new HistogramLogWriter(file.toFile());
+
+        long now = System.currentTimeMillis();
+        writer.outputComment("Player API latency log, values in microseconds, tag = operation");
+        writer.outputLogFormatVersion();
+        writer.outputStartTime(now);
+        writer.setBaseTime(now);
+        writer.outputBaseTime(now);
+        writer.outputLegend();
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "latency-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleAtFixedRate(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "latency-log-close"));
+    }
+
+    private static IntervalLatencyRecorder start() {
+        Path dir = PerfSettings.getResultsDir();
+        Path file = dir.resolve("latency-" + LocalDateTime.now().format(fileFormatter) + "_"
+                + UniqueIdGenerator.processToken() + ".hlog");
+        long interval = TimeUnit.SECONDS.toMillis(
+                Long.parseLong(config.getProperty("perf.latency.log.interval.seconds", "5")));
+        try {
+            IntervalLatencyRecorder recorder = new IntervalLatencyRecorder(file, interval);
+            logger.info("Interval latency log enabled: {} (every {} ms)", file.toAbsolutePath(), interval);
+            return recorder;
+        } catch (IOException e) {
+            logger.error("Failed to open latency log {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Records one API call. No-op unless the latency log is enabled.
+     */
+    public static void record(String operation, long responseTimeMillis) {
+        if (INSTANCE != null) {
+            INSTANCE.recorders
+                    .computeIfAbsent(operation, key -> new Recorder(3))
+                    .recordValue(TimeUnit.MILLISECONDS.toMicros(Math.max(0, responseTimeMillis)));
+        }
+    }
+
+    public static boolean isEnabled() {
+        return INSTANCE != null;
+    }
+
+    public static File getLogFile() {
+        return INSTANCE != null ? INSTANCE.file.toFile() : null;
+    }
+
+    private synchronized void flush() {
+        try {
+            recorders.forEach((operation, recorder) -> {
+                Histogram interval = recorder.getIntervalHistogram(recycled.get(operation));
+                if (interval.getTotalCount() > 0) {
+                    interval.setTag(operation);
+                    writer.outputIntervalHistogram(interval);
+                }
+                recycled.put(operation, interval);
+            });
+        } catch (Exception e) {
+            logger.warn("Failed to write latency interval: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void close() {
+        flusher.shutdownNow();
+        flush();
+        writer.close();
+    }
+}
@@ -0,0 +1,21 @@
+package com.interview.test.perf;
+
+/**
+ * Single request issued by the load generator
+ * @param <P> type of the untimed setup produced by {@link #prepare()}
+ */
+public interface LoadAction<P> {
+
+    /**
+     * Untimed setup executed right before the request (e.g. creating a player to delete)
+     */
+    default P prepare() {
+        return null;
+    }
+
+    /**
+     * Executes the timed request
+     * @return true when the response matched the expected outcome
+     */
+    boolean execute(P prepared);
+}
@@ -0,0 +1,171 @@
+package com.interview.test.perf;
+
+import com.interview.test.config.ConfigurationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinator side of a distributed load run.
+ * Listens on a loopback socket, optionally launches the worker JVMs itself, splits the target rate evenly,
+ * waits until every worker has seeded its players before broadcasting a common start time, and merges the workers' histograms losslessly into one result per operation.
+ */
+public class LoadCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadCoordinator.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    static final String REPORT_FILE = "distributed-report.txt";
+    private static final long START_DELAY_MILLIS = 2000;
+
+    private final int workerCount = Integer.parseInt(config.getProperty("perf.workers", "4"));
+    private final double targetRate = Double.parseDouble(config.getProperty("perf.target.rate", "100"));
+    private final Duration duration = Duration.ofSeconds(
+            Long.parseLong(config.getProperty("perf.duration.seconds", "60")));
+    private final boolean launchWorkers = Boolean.parseBoolean(config.getProperty("perf.workers.launch", "true"));
+    private final int port = Integer.parseInt(config.getProperty("perf.coordinator.port", "0"));
+    private final Duration connectTimeout = Duration.ofSeconds(
+            Long.parseLong(config.getProperty("perf.workers.connect.timeout.seconds", "120")));
+    private final Duration readyTimeout = Duration.ofSeconds(
+            Long.parseLong(config.getProperty("perf.workers.ready.timeout.seconds", "600")));
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        new LoadCoordinator().run();
+    }
+
+    public Map<PlayerOperation, LoadResult> run() throws IOException, InterruptedException {
+        List<PlayerOperation> operations = PerfSettings.getOperations();
+        List<Process> processes = new ArrayList<>();
+        List<Socket> sockets = new ArrayList<>();
+
+        try (ServerSocket server = new ServerSocket(port, workerCount, InetAddress.getLoopbackAddress())) {
+            logger.info("Coordinator listening on {}:{} for {} workers", server.getInetAddress().getHostAddress(),
+                    server.getLocalPort(), workerCount);
+            if (launchWorkers) {
+                for (int i = 0; i < workerCount; i++) {
+                    processes.add(launchWorker(i, server.getLocalPort()));
+                }
+            }
+
+            server.setSoTimeout((int) connectTimeout.toMillis());
+            while (sockets.size() < workerCount) {
+                sockets.add(server.accept());
+                logger.info("Worker {}/{} connected", sockets.size(), workerCount);
+            }
+
+            double ratePerWorker = targetRate / workerCount;
+            List<DataOutputStream> outputs = new ArrayList<>();
+            List<DataInputStream> inputs = new ArrayList<>();
+            for (int i = 0; i < sockets.size(); i++) {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(sockets.get(i).getOutputStream()));
+                new WorkerAssignment(i, workerCount, ratePerWorker, duration, operations).writeTo(out);
+                outputs.add(out);
+                inputs.add(new DataInputStream(new BufferedInputStream(sockets.get(i).getInputStream())));
+            }
+
+            // the start time is only picked once every worker has seeded its players
+            for (int i = 0; i < sockets.size(); i++) {
+                sockets.get(i).setSoTimeout((int) readyTimeout.toMillis());
+                int ready = inputs.get(i).readInt();
+                if (ready != LoadWorker.READY) {
+                    throw new IOException("Worker " + i + " sent " + ready + " instead of READY");
+                }
+                logger.info("Worker {}/{} ready", i + 1, workerCount);
+            }
+            long startAt = System.currentTimeMillis() + START_DELAY_MILLIS;
+            for (DataOutputStream out : outputs) {
+                out.writeLong(startAt);
+                out.flush();
+            }
+
+            Map<PlayerOperation, List<LoadResult>> perWorker = new LinkedHashMap<>();
+            for (int i = 0; i < sockets.size(); i++) {
+                sockets.get(i).setSoTimeout(0);
+                DataInputStream in = inputs.get(i);
+                LoadWorker.readResults(in).forEach((operation, result) ->
+                        perWorker.computeIfAbsent(operation, key -> new ArrayList<>()).add(result));
+            }
+
+            Map<PlayerOperation, LoadResult> merged = new LinkedHashMap<>();
+            perWorker.forEach((operation, results) -> merged.put(operation, LoadResult.merge(results)));
+            writeReport(merged);
+            return merged;
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+            for (Process process : processes) {
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts a worker JVM with the coordinator's classpath and configuration
+     */
+    private Process launchWorker(int index, int coordinatorPort) throws IOException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        System.getProperties().forEach((key, value) -> {
+            String name = key.toString();
+            if (name.startsWith("app.") || name.startsWith("test.") || name.startsWith("api.")
+                    || name.startsWith("perf.")) {
+                command.add("-D" + name + "=" + value);
+            }
+        });
+        command.add("-Dperf.coordinator.port=" + coordinatorPort);
+        command.add("-Dperf.worker.id=" + index);
+        command.add(LoadWorker.class.getName());
+
+        logger.info("Launching worker {}", index);
+        return new ProcessBuilder(command).inheritIO().start();
+    }
+
+    private void writeReport(Map<PlayerOperation, LoadResult> merged) throws IOException {
+        StringBuilder table = new StringBuilder();
+        table.append("DISTRIBUTED LOAD REPORT ").append(LocalDateTime.now().format(formatter))
+                .append(" - ").append(config.getBaseUrl()).append("\n");
+        table.append(String.format(Locale.ROOT, "Workers: %d, target %.2f rps, %ds per operation%n",
+                workerCount, targetRate, duration.toSeconds()));
+        table.append(String.format(Locale.ROOT, "%-18s %10s %10s %8s %9s %9s %9s %9s%n",
+                "Operation", "Requests", "rps", "Err %", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        merged.forEach((operation, result) -> table.append(String.format(Locale.ROOT,
+                "%-18s %10d %10.2f %8.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, result.getRequests(), result.getAchievedRate(), result.getErrorRate() * 100,
+                result.getPercentileMillis(50), result.getPercentileMillis(90),
+                result.getPercentileMillis(99), result.getMaxMillis())));
+
+        logger.info("\n{}", table);
+        Path report = PerfSettings.getResultsDir().resolve(REPORT_FILE);
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, table, StandardCharsets.UTF_8);
+        logger.info("Distributed load report written to {}", report.toAbsolutePath());
+    }
+}
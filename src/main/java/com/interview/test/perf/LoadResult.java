@@ -0,0 +1,64 @@
+package com.interview.test.perf;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of one fixed-rate load run. Latencies are recorded in microseconds.
+ */
+public class LoadResult {
+
+    private final double targetRate;
+    private final long requests;
+    private final long errors;
+    private final long elapsedNanos;
+    private final Histogram latencies;
+
+    public LoadResult(double targetRate, long requests, long errors, long elapsedNanos, Histogram latencies) {
+        this.targetRate = targetRate;
+        this.requests = requests;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+    }
+
+    public double getTargetRate() { return targetRate; }
+    public long getRequests() { return requests; }
+    public long getErrors() { return errors; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public Histogram getLatencies() { return latencies; }
+
+    public double getAchievedRate() {
+        return elapsedNanos > 0 ? requests * 1_000_000_000.0 / elapsedNanos : 0;
+    }
+
+    public double getErrorRate() {
+        return requests > 0 ? (double) errors / requests : 0;
+    }
+
+    public double getPercentileMillis(double percentile) {
+        return latencies.getTotalCount() > 0 ? latencies.getValueAtPercentile(percentile) / 1000.0 : 0;
+    }
+
+    public double getMaxMillis() {
+        return latencies.getMaxValue() / 1000.0;
+    }
+
+    /**
+     * Combines results of concurrent runs: rates, counts and histograms are summed, elapsed is the longest run
+     */
+    public static LoadResult merge(Iterable<LoadResult> results) {
+        Histogram merged = new Histogram(3);
+        double rate = 0;
+        long requests = 0;
+        long errors = 0;
+        long elapsed = 0;
+        for (LoadResult result : results) {
+            merged.add(result.getLatencies());
+            rate += result.getTargetRate();
+            requests += result.getRequests();
+            errors += result.getErrors();
+            elapsed = Math.max(elapsed, result.getElapsedNanos());
+        }
+        return new LoadResult(rate, requests, errors, elapsed, merged);
+    }
+}
@@ -0,0 +1,126 @@
+package com.interview.test.perf;
+
+import com.interview.test.config.ConfigurationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Worker side of a distributed load run.
+ * Connects to the coordinator's local socket, receives its {@link WorkerAssignment}, seeds its own players (its
+ * slice of the key space) and reports READY; once every worker is ready the coordinator sends the common start
+ * time, and the worker drives its share of the rate and sends back the raw latency histograms.
+ */
+public class LoadWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadWorker.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    static final int READY = 1;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = Integer.parseInt(config.getProperty("perf.coordinator.port", "0"));
+        if (port <= 0) {
+            throw new IllegalArgumentException("perf.coordinator.port must point to a running coordinator");
+        }
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+
+            WorkerAssignment assignment = WorkerAssignment.readFrom(in);
+            logger.info("Received {}", assignment);
+
+            PlayerWorkload workload = seed(assignment);
+            try {
+                out.writeInt(READY);
+                out.flush();
+                long startAtEpochMillis = in.readLong();
+                logger.info("Worker {} ready, starting at {}", assignment.getWorkerId(), startAtEpochMillis);
+
+                Map<PlayerOperation, LoadResult> results = new LoadWorker().execute(assignment, workload,
+                        startAtEpochMillis);
+                writeResults(out, results);
+                logger.info("Worker {} reported {} operation results", assignment.getWorkerId(), results.size());
+            } finally {
+                workload.cleanUp();
+            }
+        }
+    }
+
+    /**
+     * Creates this worker's share of the seed players, before it reports READY
+     */
+    static PlayerWorkload seed(WorkerAssignment assignment) {
+        int seedPlayers = Math.max(1, PerfSettings.getSeedPlayers() / assignment.getWorkerCount());
+        return new PlayerWorkload().seed(seedPlayers);
+    }
+
+    /**
+     * Runs every operation of the assignment against an already seeded workload, from the coordinator's start time;
+     * the caller cleans the workload up
+     */
+    public Map<PlayerOperation, LoadResult> execute(WorkerAssignment assignment, PlayerWorkload workload,
+                                                    long startAtEpochMillis) throws InterruptedException {
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(PerfSettings.getMaxConcurrency(),
+                Duration.ofMillis(config.getRequestTimeout()));
+
+        Map<PlayerOperation, LoadResult> results = new LinkedHashMap<>();
+        long wait = startAtEpochMillis - System.currentTimeMillis();
+        if (wait > 0) {
+            Thread.sleep(wait);
+        }
+        for (PlayerOperation operation : assignment.getOperations()) {
+            LoadResult result = generator.run(assignment.getRate(), assignment.getDuration(),
+                    workload.actionFor(operation));
+            results.put(operation, result);
+            logger.info("Worker {} {} @ {} rps: {} requests, {} errors",
+                    assignment.getWorkerId(), operation, assignment.getRate(),
+                    result.getRequests(), result.getErrors());
+        }
+        return results;
+    }
+
+    private static void writeResults(DataOutputStream out, Map<PlayerOperation, LoadResult> results)
+            throws IOException {
+        out.writeInt(results.size());
+        for (Map.Entry<PlayerOperation, LoadResult> entry : results.entrySet()) {
+            LoadResult result = entry.getValue();
+            byte[] histogram = HistogramCodec.encode(result.getLatencies());
+            out.writeUTF(entry.getKey().name());
+            out.writeDouble(result.getTargetRate());
+            out.writeLong(result.getRequests());
+            out.writeLong(result.getErrors());
+            out.writeLong(result.getElapsedNanos());
+            out.writeInt(histogram.length);
+            out.write(histogram);
+        }
+        out.flush();
+    }
+
+    static Map<PlayerOperation, LoadResult> readResults(DataInputStream in) throws IOException {
+        Map<PlayerOperation, LoadResult> results = new LinkedHashMap<>();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            PlayerOperation operation = PlayerOperation.valueOf(in.readUTF());
+            double rate = in.readDouble();
+            long requests = in.readLong();
+            long errors = in.readLong();
+            long elapsed = in.readLong();
+            byte[] histogram = new byte[in.readInt()];
+            in.readFully(histogram);
+            results.put(operation, new LoadResult(rate, requests, errors, elapsed, HistogramCodec.decode(histogram)));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,92 @@
+package com.interview.test.perf;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads lines of an arbitrarily large file through a sliding memory-mapped window,
+ * so heap use stays constant regardless of the file size
+ */
+public class MappedLineReader implements Closeable {
+
+    private static final int DEFAULT_WINDOW = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+    private final Charset charset;
+    private final byte[] lineBuffer;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    public MappedLineReader(Path file, Charset charset) throws IOException {
+        this(file, charset, DEFAULT_WINDOW);
+    }
+
+    public MappedLineReader(Path file, Charset charset, int windowSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        this.charset = charset;
+        this.lineBuffer = new byte[Math.min(windowSize, 1024 * 1024)];
+        map(0);
+    }
+
+    /**
+     * @return the next line without its terminator, or null at the end of the file
+     */
+    public String readLine() throws IOException {
+        while (true) {
+            long lineStart = windowStart + window.position();
+            if (lineStart >= size) {
+                return null;
+            }
+            int start = window.position();
+            int limit = window.limit();
+            int end = start;
+            while (end < limit && window.get(end) != '\n') {
+                end++;
+            }
+
+            boolean lastWindow = windowStart + limit >= size;
+            if (end == limit && !lastWindow) {
+                if (start == 0) {
+                    throw new IOException("Line longer than " + windowSize + " bytes at offset " + lineStart);
+                }
+                map(lineStart);
+                continue;
+            }
+
+            int length = end - start;
+            if (length > 0 && window.get(end - 1) == '\r') {
+                length--;
+            }
+            String line = decode(start, length);
+            window.position(Math.min(end + 1, limit));
+            return line;
+        }
+    }
+
+    private String decode(int start, int length) {
+        byte[] bytes = length <= lineBuffer.length ? lineBuffer : new byte[length];
+        window.get(start, bytes, 0, length);
+        return new String(bytes, 0, length, charset);
+    }
+
+    private void map(long position) throws IOException {
+        windowStart = position;
+        long length = Math.min(windowSize, size - position);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
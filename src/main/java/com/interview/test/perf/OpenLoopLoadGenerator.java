@@ -0,0 +1,111 @@
+package com.interview.test.perf;
+
+import com.interview.test.api.BaseApiClient;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed-rate (open-loop) load generator.
+ * Requests are issued on a schedule independent of response times and latency is measured from the
+ * intended start time, so queueing behind a slow server shows up in the percentiles. A request that
+ * {@link BaseApiClient} had to repeat counts as an error even if a repeat succeeded.
+ */
+public class OpenLoopLoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenLoopLoadGenerator.class);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final int maxConcurrency;
+    private final Duration drainTimeout;
+
+    public OpenLoopLoadGenerator(int maxConcurrency, Duration drainTimeout) {
+        this.maxConcurrency = maxConcurrency;
+        this.drainTimeout = drainTimeout;
+    }
+
+    /**
+     * Issues requests at the given rate for the given duration and waits for outstanding ones to finish
+     */
+    public <P> LoadResult run(double ratePerSecond, Duration duration, LoadAction<P> action) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive: " + ratePerSecond);
+        }
+
+        Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        LongAdder errors = new LongAdder();
+        LongAdder completed = new LongAdder();
+        ExecutorService workers = Executors.newFixedThreadPool(maxConcurrency, daemonThreads());
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long issued = 0;
+
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            final long intendedStart = intended;
+            workers.execute(() -> {
+                boolean success;
+                long setupNanos = 0;
+                try {
+                    long setupStart = System.nanoTime();
+                    P prepared = action.prepare();
+                    setupNanos = System.nanoTime() - setupStart;
+                    long repeatsBefore = BaseApiClient.getThreadRequestRetryCount();
+                    success = action.execute(prepared);
+                    success &= BaseApiClient.getThreadRequestRetryCount() == repeatsBefore;
+                } catch (Exception e) {
+                    logger.debug("Load request failed: {}", e.getMessage());
+                    success = false;
+                }
+                long latencyNanos = System.nanoTime() - intendedStart - setupNanos;
+                recorder.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+                if (!success) {
+                    errors.increment();
+                }
+                completed.increment();
+            });
+            issued++;
+        }
+
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("{} requests still outstanding after {} ms, abandoning them",
+                        issued - completed.sum(), drainTimeout.toMillis());
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long unfinished = issued - completed.sum();
+        Histogram latencies = recorder.getIntervalHistogram();
+        return new LoadResult(ratePerSecond, issued, errors.sum() + unfinished, elapsed, latencies);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "load-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
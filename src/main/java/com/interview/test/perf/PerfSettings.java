@@ -0,0 +1,58 @@
+package com.interview.test.perf;
+
+import com.interview.test.config.ConfigurationManager;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Load tooling settings resolved from {@link ConfigurationManager} ("perf.*" properties)
+ */
+public class PerfSettings {
+
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    private PerfSettings() {}
+
+    public static double getStartRate() {
+        return Double.parseDouble(config.getProperty("perf.step.start.rate", "5"));
+    }
+
+    public static double getRateIncrement() {
+        return Double.parseDouble(config.getProperty("perf.step.increment", "5"));
+    }
+
+    public static double getMaxRate() {
+        return Double.parseDouble(config.getProperty("perf.step.max.rate", "200"));
+    }
+
+    public static Duration getStepHold() {
+        return Duration.ofSeconds(Long.parseLong(config.getProperty("perf.step.hold.seconds", "30")));
+    }
+
+    public static double getSloP99Millis() {
+        return Double.parseDouble(config.getProperty("perf.slo.p99.ms", "500"));
+    }
+
+    public static double getSloMaxErrorRate() {
+        return Double.parseDouble(config.getProperty("perf.slo.max.error.rate", "0.01"));
+    }
+
+    public static int getMaxConcurrency() {
+        return Integer.parseInt(config.getProperty("perf.max.concurrency", "64"));
+    }
+
+    public static int getSeedPlayers() {
+        return Integer.parseInt(config.getProperty("perf.seed.players", "20"));
+    }
+
+    public static List<PlayerOperation> getOperations() {
+        return PlayerOperation.parseList(config.getProperty("perf.operations", "all"));
+    }
+
+    public static Path getResultsDir() {
+        return Paths.get(config.getProperty("perf.results.dir", "build/perf"));
+    }
+}
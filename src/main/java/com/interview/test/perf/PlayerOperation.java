@@ -0,0 +1,56 @@
+package com.interview.test.perf;
+
+import com.interview.test.api.PlayerApiClient;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Player API operations that can be driven by the load tooling
+ */
+public enum PlayerOperation {
+
+    CREATE_PLAYER("GET", PlayerApiClient.CREATE_PLAYER_ENDPOINT, 200),
+    GET_PLAYER_BY_ID("POST", PlayerApiClient.GET_PLAYER_ENDPOINT, 200),
+    GET_ALL_PLAYERS("GET", PlayerApiClient.GET_ALL_PLAYERS_ENDPOINT, 200),
+    UPDATE_PLAYER("PATCH", PlayerApiClient.UPDATE_PLAYER_ENDPOINT, 200),
+    DELETE_PLAYER("DELETE", PlayerApiClient.DELETE_PLAYER_ENDPOINT, 204);
+
+    private final String method;
+    private final String endpoint;
+    private final int expectedStatusCode;
+
+    PlayerOperation(String method, String endpoint, int expectedStatusCode) {
+        this.method = method;
+        this.endpoint = endpoint;
+        this.expectedStatusCode = expectedStatusCode;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getExpectedStatusCode() {
+        return expectedStatusCode;
+    }
+
+    /**
+     * Parses a comma separated list of operation names, "all" selects every operation
+     */
+    public static List<PlayerOperation> parseList(String value) {
+        if (value == null || value.isBlank() || "all".equalsIgnoreCase(value.trim())) {
+            return Arrays.asList(values());
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(name -> PlayerOperation.valueOf(name.toUpperCase(Locale.ROOT)))
+                .collect(Collectors.toList());
+    }
+}
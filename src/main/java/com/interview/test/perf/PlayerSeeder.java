@@ -0,0 +1,394 @@
+package com.interview.test.perf;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.interview.test.api.PlayerApiClient;
+import com.interview.test.config.ConfigurationManager;
+import com.interview.test.models.PlayerCreateRequest;
+import com.interview.test.models.PlayerCreateResponse;
+import com.interview.test.models.PlayerGetByIdResponse;
+import com.interview.test.utils.TestDataFactory;
+import com.interview.test.utils.UniqueIdGenerator;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Creates perf.seeder.count players for scale tests with perf.seeder.concurrency parallel requests.
+ * Created ids are appended to a checkpoint file every perf.seeder.checkpoint.interval.seconds and on shutdown.
+ * Re-running with the same checkpoint resumes: player n always gets the login and screen name seeding run token + n,
+ * so players created but not yet checkpointed when the run died are rejected as duplicates instead of created twice.
+ * Their ids are then looked up in the get-all list by screen name, confirmed by login, and checkpointed as
+ * "index id". A rejection counts as a duplicate only when its body matches perf.seeder.duplicate.pattern or the
+ * lookup confirms the login; such a player that cannot be found is checkpointed as "index ?" and reported apart.
+ * Any other rejection is a failure and is retried by the next run.
+ */
+public class PlayerSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerSeeder.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final String RUN_HEADER = "# run ";
+    private static final String UNKNOWN_ID = "?";
+    private static final int SCREEN_NAME_MAX_LENGTH = Integer.parseInt(
+            config.getProperty("validation.screenname.max.length", "30"));
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final Pattern DUPLICATE_LOGIN = Pattern.compile(config.getProperty("perf.seeder.duplicate.pattern",
+            "(?i)already exists|duplicate|not unique"));
+
+    private final PlayerApiClient playerApi = new PlayerApiClient();
+    private final int target;
+    private final int concurrency;
+    private final Path checkpointFile;
+    private final Duration checkpointInterval;
+    private final Duration progressInterval;
+    private final String loginPrefix;
+    private final int loginMaxLength;
+    private final Queue<String> unsavedEntries = new ConcurrentLinkedQueue<>();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder unknownIds = new LongAdder();
+    // screen name -> rejection of a player that may already exist, resolved once seeding is over
+    private final Map<String, Rejection> conflictsToResolve = new ConcurrentHashMap<>();
+
+    private final BitSet done = new BitSet();
+    private int unknownIdsInCheckpoint;
+    private String runToken;
+    private boolean resuming;
+
+    public PlayerSeeder(int target, int concurrency, Path checkpointFile, Duration checkpointInterval,
+                        Duration progressInterval) {
+        this.target = target;
+        this.concurrency = concurrency;
+        this.checkpointFile = checkpointFile;
+        this.checkpointInterval = checkpointInterval;
+        this.progressInterval = progressInterval;
+        this.loginPrefix = config.getProperty("perf.seeder.login.prefix", "seed_");
+        this.loginMaxLength = Integer.parseInt(config.getProperty("validation.login.max.length", "50"));
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        PlayerSeeder seeder = new PlayerSeeder(
+                Integer.parseInt(config.getProperty("perf.seeder.count", "100000")),
+                Integer.parseInt(config.getProperty("perf.seeder.concurrency", "32")),
+                Paths.get(config.getProperty("perf.seeder.checkpoint",
+                        PerfSettings.getResultsDir().resolve("player-seed.checkpoint").toString())),
+                Duration.ofSeconds(Long.parseLong(config.getProperty("perf.seeder.checkpoint.interval.seconds", "5"))),
+                Duration.ofSeconds(Long.parseLong(config.getProperty("perf.seeder.progress.interval.seconds", "10"))));
+        seeder.run();
+    }
+
+    public void run() throws IOException, InterruptedException {
+        loadCheckpoint();
+        int remaining = target - done.cardinality();
+        if (remaining <= 0) {
+            logger.info("{} already holds {} players, nothing to seed", checkpointFile, done.cardinality());
+            return;
+        }
+        checkNameLengths();
+        logger.info("Seeding {} of {} players against {} with {} threads, checkpoint {}", remaining, target,
+                config.getBaseUrl(), concurrency, checkpointFile);
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "seeder-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seeder-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Thread shutdownHook = new Thread(this::saveCheckpoint, "seeder-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+        long start = System.nanoTime();
+        Progress progress = new Progress(start, remaining);
+        scheduler.scheduleWithFixedDelay(this::saveCheckpoint, checkpointInterval.toMillis(),
+                checkpointInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleAtFixedRate(progress::log, progressInterval.toMillis(), progressInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+
+        AtomicInteger next = new AtomicInteger(done.nextClearBit(0));
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                int index;
+                while ((index = nextPending(next)) < target) {
+                    create(index);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+        scheduler.shutdownNow();
+        resolveConflicts();
+        saveCheckpoint();
+        Runtime.getRuntime().removeShutdownHook(shutdownHook);
+
+        long elapsedSeconds = Math.max(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), 1);
+        logger.info("Seeding finished in {}s: {} created ({} per second), {} already existed, {} failed{}",
+                elapsedSeconds, created.sum(), created.sum() / elapsedSeconds, conflicts.sum(), failures.sum(),
+                failures.sum() > 0 ? ", re-run to retry the failed players" : "");
+        if (unknownIds.sum() + unknownIdsInCheckpoint > 0) {
+            logger.warn("{} players already existed but were not found in the player list, their checkpoint "
+                    + "entries have id {}", unknownIds.sum() + unknownIdsInCheckpoint, UNKNOWN_ID);
+        }
+    }
+
+    /**
+     * Fails before any request when the longest login or screen name of this run would be rejected by the server
+     */
+    private void checkNameLengths() {
+        int lastIndex = target - 1;
+        if (login(lastIndex).length() > loginMaxLength) {
+            throw new IllegalStateException("Seed login " + login(lastIndex) + " is longer than " + loginMaxLength
+                    + " characters, shorten perf.seeder.login.prefix");
+        }
+        if (screenName(lastIndex).length() > SCREEN_NAME_MAX_LENGTH) {
+            throw new IllegalStateException("Seed screen name " + screenName(lastIndex) + " is longer than "
+                    + SCREEN_NAME_MAX_LENGTH + " characters, lower perf.seeder.count");
+        }
+    }
+
+    /**
+     * Next index not in the checkpoint; done is not modified while seeding, the counter hands each index out once
+     */
+    private int nextPending(AtomicInteger next) {
+        while (true) {
+            int candidate = next.getAndIncrement();
+            if (!done.get(candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    private void create(int index) {
+        PlayerCreateRequest player = PlayerCreateRequest.builder()
+                .login(login(index))
+                .password(config.getProperty("default.player.password", "testPassword123"))
+                .role(TestDataFactory.getRandomValidRole())
+                .age(TestDataFactory.generateValidAge())
+                .gender(TestDataFactory.getRandomValidGender())
+                .screenName(screenName(index))
+                .build();
+        try {
+            Response response = playerApi.createPlayer(config.getSupervisorEditor(), player);
+            if (response.getStatusCode() == 200) {
+                unsavedEntries.add(index + " " + response.as(PlayerCreateResponse.class).getId());
+                created.increment();
+            } else if (response.getStatusCode() == 400 && resuming) {
+                // maybe created by the interrupted run after its last checkpoint, confirmed by body or lookup
+                boolean duplicate = DUPLICATE_LOGIN.matcher(response.asString()).find();
+                if (duplicate) {
+                    conflicts.increment();
+                }
+                conflictsToResolve.put(player.getScreenName(), new Rejection(index, duplicate));
+            } else {
+                failures.increment();
+                logger.debug("Player {} not created: status {}", index, response.getStatusCode());
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            logger.debug("Player {} not created: {}", index, e.getMessage());
+        }
+    }
+
+    private String login(int index) {
+        return loginPrefix + runToken + "_" + Integer.toString(index, 36);
+    }
+
+    /**
+     * Deterministic like the login, so a player created by an interrupted run can be found in the get-all list
+     */
+    private String screenName(int index) {
+        return "s" + runToken + "_" + Integer.toString(index, 36);
+    }
+
+    /**
+     * Finds the ids of the players rejected as possibly existing: candidates are picked from the streamed get-all
+     * list by screen name and confirmed by login. Players not found are checkpointed with an unknown id when the
+     * rejection named a duplicate login, otherwise they count as failed and are left for the next run.
+     */
+    private void resolveConflicts() {
+        if (conflictsToResolve.isEmpty()) {
+            return;
+        }
+        logger.info("Looking up the ids of {} players created by the interrupted run", conflictsToResolve.size());
+        try (InputStream body = playerApi.openAllPlayersStream(); JsonParser parser = jsonFactory.createParser(body)) {
+            if (seekPlayersArray(parser)) {
+                while (parser.nextToken() == JsonToken.START_OBJECT && !conflictsToResolve.isEmpty()) {
+                    Long id = null;
+                    String screenName = null;
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String field = parser.getCurrentName();
+                        parser.nextToken();
+                        if ("id".equals(field)) {
+                            id = parser.getLongValue();
+                        } else if ("screenName".equals(field)) {
+                            screenName = parser.getText();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    Rejection rejection = screenName != null ? conflictsToResolve.get(screenName) : null;
+                    if (id != null && rejection != null && isSeededPlayer(id, rejection.index)) {
+                        conflictsToResolve.remove(screenName);
+                        unsavedEntries.add(rejection.index + " " + id);
+                        if (!rejection.duplicate) {
+                            conflicts.increment();
+                        }
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to look up already existing players: {}", e.getMessage());
+        }
+        conflictsToResolve.values().forEach(rejection -> {
+            if (rejection.duplicate) {
+                unsavedEntries.add(rejection.index + " " + UNKNOWN_ID);
+                unknownIds.increment();
+            } else {
+                failures.increment();
+                logger.debug("Player {} not created: status 400", rejection.index);
+            }
+        });
+        conflictsToResolve.clear();
+    }
+
+    private boolean isSeededPlayer(long id, int index) {
+        Response response = playerApi.getPlayerById(id);
+        return response.getStatusCode() == 200
+                && login(index).equals(response.as(PlayerGetByIdResponse.class).getLogin());
+    }
+
+    /**
+     * Moves the parser onto the start of the root "players" array
+     */
+    private static boolean seekPlayersArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("players".equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private void loadCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            runToken = UniqueIdGenerator.processToken();
+            Files.createDirectories(checkpointFile.toAbsolutePath().getParent());
+            Files.writeString(checkpointFile, RUN_HEADER + runToken + System.lineSeparator(), StandardCharsets.UTF_8);
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(checkpointFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RUN_HEADER)) {
+                    runToken = line.substring(RUN_HEADER.length()).trim();
+                } else if (!line.isBlank()) {
+                    int separator = line.indexOf(' ');
+                    done.set(Integer.parseInt(line.substring(0, separator)));
+                    if (UNKNOWN_ID.equals(line.substring(separator + 1).trim())) {
+                        unknownIdsInCheckpoint++;
+                    }
+                }
+            }
+        }
+        if (runToken == null) {
+            throw new IllegalStateException(checkpointFile + " is not a seeding checkpoint");
+        }
+        resuming = true;
+        logger.info("Resuming seeding run {} from {}: {} players already created ({} with unknown id)", runToken,
+                checkpointFile, done.cardinality(), unknownIdsInCheckpoint);
+    }
+
+    private synchronized void saveCheckpoint() {
+        if (unsavedEntries.isEmpty()) {
+            return;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(checkpointFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            String entry;
+            while ((entry = unsavedEntries.poll()) != null) {
+                writer.write(entry);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write checkpoint " + checkpointFile, e);
+        }
+    }
+
+    /**
+     * Index of a player the server rejected while resuming and whether the response named a duplicate login
+     */
+    private static final class Rejection {
+        final int index;
+        final boolean duplicate;
+
+        Rejection(int index, boolean duplicate) {
+            this.index = index;
+            this.duplicate = duplicate;
+        }
+    }
+
+    /**
+     * Creation rate over the last interval and since start, and the ETA at the sustained rate
+     */
+    private class Progress {
+        private final long start;
+        private final int remaining;
+        private long lastTime;
+        private long lastCount;
+
+        Progress(long start, int remaining) {
+            this.start = start;
+            this.remaining = remaining;
+            this.lastTime = start;
+        }
+
+        void log() {
+            long now = System.nanoTime();
+            long count = created.sum() + conflicts.sum();
+            double intervalRate = (count - lastCount) / ((now - lastTime) / 1e9);
+            double sustainedRate = count / ((now - start) / 1e9);
+            long etaSeconds = sustainedRate > 0 ? (long) ((remaining - count - failures.sum()) / sustainedRate) : -1;
+            logger.info("Seeded {}/{} ({} failed): {}/s now, {}/s sustained, ETA {}", count, remaining,
+                    failures.sum(), Math.round(intervalRate), Math.round(sustainedRate),
+                    etaSeconds < 0 ? "unknown" : Duration.ofSeconds(etaSeconds).toString().substring(2).toLowerCase());
+            lastTime = now;
+            lastCount = count;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.interview.test.perf;
+
+import com.interview.test.api.PlayerApiClient;
+import com.interview.test.config.ConfigurationManager;
+import com.interview.test.models.PlayerCreateRequest;
+import com.interview.test.models.PlayerCreateResponse;
+import com.interview.test.models.PlayerStore;
+import com.interview.test.models.PlayerUpdateRequest;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.interview.test.utils.TestDataFactory.generateValidAge;
+
+/**
+ * Builds {@link LoadAction}s for every {@link PlayerOperation} on top of {@link PlayerApiClient}.
+ * Read and update operations target a set of players seeded up front, generated into a {@link PlayerStore} so
+ * large seed sets stay compact.
+ */
+public class PlayerWorkload {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerWorkload.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    // no repeats: a transient failure must count in the error rate and latency of the run
+    private final PlayerApiClient playerApi = new PlayerApiClient(false);
+    private final String editor = config.getSupervisorEditor();
+    // players created by load and not deleted by it yet, deleted on cleanUp
+    private final Set<Long> createdByLoad = ConcurrentHashMap.newKeySet();
+    private PlayerStore seededPlayers = new PlayerStore(0);
+    // ids of the seeded players that were created, read by every get/update request
+    private long[] seededPlayerIds = new long[0];
+
+    /**
+     * Creates the players used as targets by get/update operations
+     */
+    public PlayerWorkload seed(int count) {
+        PlayerStore players = PlayerStore.generate(count);
+        long[] ids = new long[count];
+        int seeded = 0;
+        PlayerStore.View player = players.view();
+        for (int i = 0; i < count; i++) {
+            Long id = createPlayer(player.moveTo(i));
+            if (id != null) {
+                players.setId(i, id);
+                ids[seeded++] = id;
+            }
+        }
+        if (seeded == 0 && count > 0) {
+            throw new IllegalStateException("Unable to seed any player at " + config.getBaseUrl());
+        }
+        seededPlayers = players;
+        seededPlayerIds = Arrays.copyOf(ids, seeded);
+        logger.info("Seeded {} players for load ({} KB)", seeded, players.usedBytes() / 1024);
+        return this;
+    }
+
+    /**
+     * Deletes the seeded players and every player created by load that the load did not delete
+     */
+    public void cleanUp() {
+        List<Long> ids = new ArrayList<>();
+        Arrays.stream(seededPlayerIds).forEach(ids::add);
+        ids.addAll(createdByLoad);
+        createdByLoad.removeAll(ids);
+        ids.forEach(id -> playerApi.deletePlayer(editor, id));
+        logger.info("Deleted {} players used for load", ids.size());
+        seededPlayers = new PlayerStore(0);
+        seededPlayerIds = new long[0];
+    }
+
+    public List<Long> getSeededPlayerIds() {
+        return Arrays.stream(seededPlayerIds).boxed().toList();
+    }
+
+    /**
+     * Seeded players with their ids, {@link PlayerStore#NO_ID} for the ones the server did not create
+     */
+    public PlayerStore getSeededPlayers() {
+        return seededPlayers;
+    }
+
+    public LoadAction<?> actionFor(PlayerOperation operation) {
+        return switch (operation) {
+            case CREATE_PLAYER -> (LoadAction<Void>) prepared -> {
+                Response response = playerApi.createPlayer(editor, PlayerCreateRequest.generateValidPlayerData());
+                trackCreated(response);
+                return response.statusCode() == operation.getExpectedStatusCode();
+            };
+            case GET_PLAYER_BY_ID -> (LoadAction<Void>) prepared ->
+                    playerApi.getPlayerById(randomSeededId()).statusCode() == operation.getExpectedStatusCode();
+            case GET_ALL_PLAYERS -> (LoadAction<Void>) prepared ->
+                    playerApi.getAllPlayers().statusCode() == operation.getExpectedStatusCode();
+            case UPDATE_PLAYER -> (LoadAction<Void>) prepared -> {
+                PlayerUpdateRequest update = PlayerUpdateRequest.builder().age(generateValidAge()).build();
+                return playerApi.updatePlayer(editor, randomSeededId(), update).statusCode()
+                        == operation.getExpectedStatusCode();
+            };
+            case DELETE_PLAYER -> new LoadAction<Long>() {
+                @Override
+                public Long prepare() {
+                    Long playerId = createPlayer();
+                    if (playerId != null) {
+                        createdByLoad.add(playerId);
+                    }
+                    return playerId;
+                }
+
+                @Override
+                public boolean execute(Long playerId) {
+                    if (playerId == null) {
+                        return false;
+                    }
+                    boolean deleted = playerApi.deletePlayer(editor, playerId).statusCode()
+                            == operation.getExpectedStatusCode();
+                    if (deleted) {
+                        createdByLoad.remove(playerId);
+                    }
+                    return deleted;
+                }
+            };
+        };
+    }
+
+    private Long createPlayer() {
+        return created(playerApi.createPlayer(editor, PlayerCreateRequest.generateValidPlayerData()));
+    }
+
+    private Long createPlayer(PlayerStore.View player) {
+        return created(playerApi.createPlayer(editor, player));
+    }
+
+    private Long created(Response response) {
+        if (response.statusCode() != 200) {
+            logger.warn("Player creation failed with status {}", response.statusCode());
+            return null;
+        }
+        return response.as(PlayerCreateResponse.class).getId();
+    }
+
+    private void trackCreated(Response response) {
+        if (response.statusCode() == 200) {
+            Long id = response.as(PlayerCreateResponse.class).getId();
+            if (id != null) {
+                createdByLoad.add(id);
+            }
+        }
+    }
+
+    private Long randomSeededId() {
+        return seededPlayerIds[ThreadLocalRandom.current().nextInt(seededPlayerIds.length)];
+    }
+}
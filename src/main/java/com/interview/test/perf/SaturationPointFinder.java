@@ -0,0 +1,168 @@
+package com.interview.test.perf;
+
+import com.interview.test.config.ConfigurationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Step-load mode: ramps the request rate of each Player operation in fixed increments, holds every step,
+ * and stops at the first step whose p99 latency or error rate breaks the SLO (the knee).
+ * The highest rate that met the SLO is reported per operation as a table and appended to a CSV history.
+ */
+public class SaturationPointFinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(SaturationPointFinder.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    static final String CSV_FILE = "saturation-history.csv";
+    static final String REPORT_FILE = "saturation-report.txt";
+    private static final String CSV_HEADER = "run,base_url,operation,target_rps,achieved_rps,requests,errors,"
+            + "error_rate,p50_ms,p90_ms,p99_ms,max_ms,slo_met";
+
+    private final OpenLoopLoadGenerator generator;
+    private final Duration hold;
+    private final double sloP99Millis;
+    private final double sloMaxErrorRate;
+
+    public SaturationPointFinder() {
+        this.hold = PerfSettings.getStepHold();
+        this.sloP99Millis = PerfSettings.getSloP99Millis();
+        this.sloMaxErrorRate = PerfSettings.getSloMaxErrorRate();
+        this.generator = new OpenLoopLoadGenerator(PerfSettings.getMaxConcurrency(),
+                Duration.ofMillis(config.getRequestTimeout()));
+    }
+
+    public static void main(String[] args) throws IOException {
+        new SaturationPointFinder().run();
+    }
+
+    public void run() throws IOException {
+        String runId = LocalDateTime.now().format(formatter);
+        List<PlayerOperation> operations = PerfSettings.getOperations();
+        logger.info("Saturation search against {} for {} (SLO p99 <= {} ms, errors <= {}%)",
+                config.getBaseUrl(), operations, sloP99Millis, sloMaxErrorRate * 100);
+
+        PlayerWorkload workload = new PlayerWorkload().seed(PerfSettings.getSeedPlayers());
+        Map<PlayerOperation, List<LoadResult>> results = new LinkedHashMap<>();
+        try {
+            for (PlayerOperation operation : operations) {
+                results.put(operation, rampUntilKnee(operation, workload));
+            }
+        } finally {
+            workload.cleanUp();
+        }
+
+        writeCsv(runId, results);
+        writeReport(runId, results);
+    }
+
+    /**
+     * Runs increasing rate steps for one operation and returns every step executed, the last one being the knee
+     */
+    public List<LoadResult> rampUntilKnee(PlayerOperation operation, PlayerWorkload workload) {
+        List<LoadResult> steps = new ArrayList<>();
+        LoadAction<?> action = workload.actionFor(operation);
+
+        for (double rate = PerfSettings.getStartRate(); rate <= PerfSettings.getMaxRate();
+             rate += PerfSettings.getRateIncrement()) {
+            LoadResult step = generator.run(rate, hold, action);
+            steps.add(step);
+            logger.info("{} @ {} rps: achieved {} rps, p99 {} ms, errors {}% -> {}",
+                    operation, format(rate), format(step.getAchievedRate()), format(step.getPercentileMillis(99)),
+                    format(step.getErrorRate() * 100), meetsSlo(step) ? "OK" : "SLO BROKEN");
+            if (!meetsSlo(step)) {
+                break;
+            }
+        }
+        return steps;
+    }
+
+    public boolean meetsSlo(LoadResult step) {
+        return step.getPercentileMillis(99) <= sloP99Millis && step.getErrorRate() <= sloMaxErrorRate;
+    }
+
+    /**
+     * Highest target rate that met the SLO, or 0 when even the first step failed
+     */
+    public double sustainableRate(List<LoadResult> steps) {
+        return steps.stream()
+                .filter(this::meetsSlo)
+                .mapToDouble(LoadResult::getTargetRate)
+                .max()
+                .orElse(0);
+    }
+
+    private void writeCsv(String runId, Map<PlayerOperation, List<LoadResult>> results) throws IOException {
+        Path csv = PerfSettings.getResultsDir().resolve(CSV_FILE);
+        Files.createDirectories(csv.getParent());
+
+        StringBuilder rows = new StringBuilder();
+        if (!Files.exists(csv)) {
+            rows.append(CSV_HEADER).append("\n");
+        }
+        results.forEach((operation, steps) -> steps.forEach(step -> rows
+                .append(runId).append(',')
+                .append(config.getBaseUrl()).append(',')
+                .append(operation).append(',')
+                .append(format(step.getTargetRate())).append(',')
+                .append(format(step.getAchievedRate())).append(',')
+                .append(step.getRequests()).append(',')
+                .append(step.getErrors()).append(',')
+                .append(String.format(Locale.ROOT, "%.4f", step.getErrorRate())).append(',')
+                .append(format(step.getPercentileMillis(50))).append(',')
+                .append(format(step.getPercentileMillis(90))).append(',')
+                .append(format(step.getPercentileMillis(99))).append(',')
+                .append(format(step.getMaxMillis())).append(',')
+                .append(meetsSlo(step)).append("\n")));
+
+        Files.writeString(csv, rows, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        logger.info("Step results appended to {}", csv.toAbsolutePath());
+    }
+
+    private void writeReport(String runId, Map<PlayerOperation, List<LoadResult>> results) throws IOException {
+        StringBuilder table = new StringBuilder();
+        table.append("SATURATION REPORT ").append(runId).append(" - ").append(config.getBaseUrl()).append("\n");
+        table.append(String.format(Locale.ROOT, "SLO: p99 <= %s ms, error rate <= %s%%, hold %ds per step%n",
+                format(sloP99Millis), format(sloMaxErrorRate * 100), hold.toSeconds()));
+        table.append(String.format(Locale.ROOT, "%-18s %14s %10s %12s %12s%n",
+                "Operation", "Max rps in SLO", "Knee rps", "p99@max ms", "Steps"));
+
+        results.forEach((operation, steps) -> {
+            double sustainable = sustainableRate(steps);
+            LoadResult last = steps.get(steps.size() - 1);
+            String knee = meetsSlo(last) ? "not hit" : format(last.getTargetRate());
+            double p99AtMax = steps.stream()
+                    .filter(step -> step.getTargetRate() == sustainable)
+                    .mapToDouble(step -> step.getPercentileMillis(99))
+                    .findFirst()
+                    .orElse(0);
+            table.append(String.format(Locale.ROOT, "%-18s %14s %10s %12s %12d%n",
+                    operation, format(sustainable), knee, format(p99AtMax), steps.size()));
+        });
+
+        logger.info("\n{}", table);
+        Path report = PerfSettings.getResultsDir().resolve(REPORT_FILE);
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, table, StandardCharsets.UTF_8);
+        logger.info("Saturation report written to {}", report.toAbsolutePath());
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
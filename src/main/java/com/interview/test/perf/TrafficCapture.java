@@ -0,0 +1,162 @@
+package com.interview.test.perf;
+
+import com.interview.test.config.ConfigurationManager;
+import com.interview.test.models.PlayerCreateResponse;
+import com.interview.test.models.PlayerUpdateRequest;
+import com.interview.test.utils.UniqueIdGenerator;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Captures every request made through PlayerApiClient (operation, editor, parameters/body, start offset,
+ * status and latency) into a {@link TrafficCaptureFile} for later replay with {@link TrafficReplayer}.
+ * Enabled with perf.capture.enabled=true.
+ * <p>
+ * Requests get a sequence number when they start and are written in that order, not in completion order, so the
+ * offsets in the file never go backwards; a request that completes early waits in a reorder buffer until all
+ * requests started before it have completed or failed.
+ */
+public final class TrafficCapture {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficCapture.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final DateTimeFormatter fileFormatter = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private static final boolean ENABLED = Boolean.parseBoolean(config.getProperty("perf.capture.enabled", "false"));
+    private static final TrafficCaptureFile.Writer WRITER = ENABLED ? open() : null;
+    // epoch of the offsets, taken when the class is initialized, i.e. before the first start() reads the clock
+    private static final long START_NANOS = System.nanoTime();
+
+    // sequence of the next request to start and of the next one to write, requests completed out of order
+    private static long nextSequence;
+    private static long nextToWrite;
+    private static final Map<Long, CapturedRequest> pending = new TreeMap<>();
+
+    private TrafficCapture() {}
+
+    private static TrafficCaptureFile.Writer open() {
+        Path file = PerfSettings.getResultsDir()
+                .resolve("capture-" + LocalDateTime.now().format(fileFormatter) + "_"
+                        + UniqueIdGenerator.processToken() + ".tcap");
+        try {
+            TrafficCaptureFile.Writer writer = TrafficCaptureFile.openWriter(file);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    writeRemaining(writer);
+                    writer.close();
+                    logger.info("Captured {} requests to {}", writer.getCount(), file.toAbsolutePath());
+                } catch (IOException e) {
+                    logger.error("Failed to close traffic capture {}: {}", file, e.getMessage());
+                }
+            }, "traffic-capture-close"));
+            logger.info("Traffic capture enabled: {}", file.toAbsolutePath());
+            return writer;
+        } catch (IOException e) {
+            logger.error("Failed to open traffic capture {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return WRITER != null;
+    }
+
+    /**
+     * Player fields in capture order
+     */
+    public static String[] fields(String login, String password, String role, String age,
+                                  String gender, String screenName) {
+        return new String[]{login, password, role, age, gender, screenName};
+    }
+
+    public static String[] fields(PlayerUpdateRequest request) {
+        return fields(request.getLogin(), request.getPassword(), request.getRole(),
+                request.getAge() != null ? String.valueOf(request.getAge()) : null,
+                request.getGender(), request.getScreenName());
+    }
+
+    /**
+     * Runs one request and records it in start order. Just runs it unless capture is enabled.
+     */
+    public static Response capture(PlayerOperation operation, String editor, Long playerId, String[] fields,
+                                   Supplier<Response> request) {
+        if (WRITER == null) {
+            return request.get();
+        }
+        long sequence;
+        long startNanos;
+        synchronized (pending) {
+            sequence = nextSequence++;
+            startNanos = System.nanoTime();
+        }
+        Response response;
+        try {
+            response = request.get();
+        } catch (RuntimeException | Error e) {
+            complete(sequence, null);
+            throw e;
+        }
+        complete(sequence, toCaptured(operation, editor, playerId, fields, startNanos, response));
+        return response;
+    }
+
+    private static CapturedRequest toCaptured(PlayerOperation operation, String editor, Long playerId,
+                                              String[] fields, long startNanos, Response response) {
+        Long resultId = null;
+        if (operation == PlayerOperation.CREATE_PLAYER && response.statusCode() == 200) {
+            try {
+                resultId = response.as(PlayerCreateResponse.class).getId();
+            } catch (Exception e) {
+                logger.debug("Created player id not captured: {}", e.getMessage());
+            }
+        }
+        return new CapturedRequest(operation, TimeUnit.NANOSECONDS.toMicros(startNanos - START_NANOS),
+                editor, playerId, fields, response.statusCode(),
+                TimeUnit.MILLISECONDS.toMicros(response.getTime()), resultId);
+    }
+
+    /**
+     * Buffers a finished request (null when it failed without a response) and writes every request that is no
+     * longer waiting for an earlier one
+     */
+    private static void complete(long sequence, CapturedRequest request) {
+        synchronized (pending) {
+            pending.put(sequence, request);
+            while (pending.containsKey(nextToWrite)) {
+                CapturedRequest next = pending.remove(nextToWrite++);
+                if (next == null) {
+                    continue;
+                }
+                try {
+                    WRITER.write(next);
+                } catch (IOException e) {
+                    logger.warn("Failed to capture {} request: {}", next.getOperation(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * At shutdown, writes requests still waiting behind one that never finished, in start order
+     */
+    private static void writeRemaining(TrafficCaptureFile.Writer writer) throws IOException {
+        synchronized (pending) {
+            for (CapturedRequest request : pending.values()) {
+                if (request != null) {
+                    writer.write(request);
+                }
+            }
+            pending.clear();
+        }
+    }
+}
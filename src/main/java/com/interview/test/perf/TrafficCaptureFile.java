@@ -0,0 +1,102 @@
+package com.interview.test.perf;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip-compressed binary file of {@link CapturedRequest}s, shared by traffic capture, access-log import and replay
+ */
+public final class TrafficCaptureFile {
+
+    private static final int MAGIC = 0x504C5443; // "PLTC"
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private TrafficCaptureFile() {}
+
+    public static Writer openWriter(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        return new Writer(file);
+    }
+
+    public static Reader openReader(Path file) throws IOException {
+        return new Reader(file);
+    }
+
+    /**
+     * Thread-safe appender
+     */
+    public static class Writer implements Closeable {
+        private final DataOutputStream out;
+        private long count;
+
+        private Writer(Path file) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(file), BUFFER_SIZE), BUFFER_SIZE));
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+        }
+
+        public synchronized void write(CapturedRequest request) throws IOException {
+            request.writeTo(out);
+            count++;
+        }
+
+        public synchronized long getCount() {
+            return count;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /**
+     * Sequential streaming reader, memory use does not depend on the file size
+     */
+    public static class Reader implements Closeable {
+        private final DataInputStream in;
+
+        private Reader(Path file) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(
+                    new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE), BUFFER_SIZE));
+            if (in.readInt() != MAGIC) {
+                in.close();
+                throw new IOException("Not a traffic capture file: " + file);
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                in.close();
+                throw new IOException("Unsupported traffic capture version " + version + ": " + file);
+            }
+        }
+
+        /**
+         * @return the next request or null at the end of the file
+         */
+        public CapturedRequest next() throws IOException {
+            try {
+                return CapturedRequest.readFrom(in);
+            } catch (EOFException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
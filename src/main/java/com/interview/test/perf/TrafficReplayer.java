@@ -0,0 +1,307 @@
+package com.interview.test.perf;
+
+import com.interview.test.api.PlayerApiClient;
+import com.interview.test.config.ConfigurationManager;
+import com.interview.test.models.PlayerCreateResponse;
+import com.interview.test.models.PlayerUpdateRequest;
+import com.interview.test.utils.TestDataFactory;
+import io.restassured.response.Response;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a traffic capture against the configured app.base.url.
+ * Requests are issued at their captured offsets divided by perf.replay.speed ("max" issues them back to back),
+ * each on its own worker so the original concurrency is preserved. Captured player ids are remapped to the ids
+ * created during replay; a request on a player whose create is still in flight waits for that create first.
+ * A request on a captured id without a replayed player (never created in the capture, or its create failed or timed
+ * out) is skipped and reported as unmapped, since that id may belong to an unrelated player on the target server;
+ * perf.replay.raw.ids=true sends such ids unchanged. Replayed status codes and latencies are compared to the
+ * captured ones.
+ */
+public class TrafficReplayer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficReplayer.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    static final String REPORT_FILE = "replay-report.txt";
+
+    // no repeats: replayed statuses and latencies are compared to the captured single requests
+    private final PlayerApiClient playerApi = new PlayerApiClient(false);
+    private final double speed;
+    private final boolean uniqueLogins;
+    private final boolean rawIds;
+    private final Semaphore inFlight;
+    // captured id -> id created during replay, registered when the create is dispatched and completed with null
+    // when it did not create a player
+    private final Map<Long, CompletableFuture<Long>> idMapping = new ConcurrentHashMap<>();
+    private final Set<Long> createdIds = ConcurrentHashMap.newKeySet();
+    private final Map<PlayerOperation, OperationStats> stats = new EnumMap<>(PlayerOperation.class);
+
+    public TrafficReplayer(double speed, boolean uniqueLogins, boolean rawIds, int maxConcurrency) {
+        this.speed = speed;
+        this.uniqueLogins = uniqueLogins;
+        this.rawIds = rawIds;
+        this.inFlight = new Semaphore(maxConcurrency);
+        for (PlayerOperation operation : PlayerOperation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String file = config.getProperty("perf.replay.file");
+        if (file == null || file.isBlank()) {
+            throw new IllegalArgumentException("perf.replay.file must point to a capture file");
+        }
+        String speedValue = config.getProperty("perf.replay.speed", "1");
+        double speed = "max".equalsIgnoreCase(speedValue) ? Double.POSITIVE_INFINITY : Double.parseDouble(speedValue);
+        boolean uniqueLogins = Boolean.parseBoolean(config.getProperty("perf.replay.unique.logins", "true"));
+        boolean rawIds = Boolean.parseBoolean(config.getProperty("perf.replay.raw.ids", "false"));
+
+        TrafficReplayer replayer = new TrafficReplayer(speed, uniqueLogins, rawIds, PerfSettings.getMaxConcurrency());
+        try {
+            replayer.replay(Paths.get(file));
+        } finally {
+            if (Boolean.parseBoolean(config.getProperty("perf.replay.cleanup", "true"))) {
+                replayer.cleanUp();
+            }
+        }
+        replayer.writeReport(Paths.get(file));
+    }
+
+    /**
+     * Streams the capture and issues every request at its (scaled) offset; returns once every request has finished
+     */
+    public void replay(Path capture) throws IOException, InterruptedException {
+        logger.info("Replaying {} against {} at {} speed", capture, config.getBaseUrl(),
+                Double.isInfinite(speed) ? "max" : speed + "x");
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService workers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "replay-worker-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        long replayed = 0;
+        try (TrafficCaptureFile.Reader reader = TrafficCaptureFile.openReader(capture)) {
+            CapturedRequest request;
+            while ((request = reader.next()) != null) {
+                if (!Double.isInfinite(speed)) {
+                    long due = start + (long) (TimeUnit.MICROSECONDS.toNanos(request.getOffsetMicros()) / speed);
+                    long wait;
+                    while ((wait = due - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+                if (request.getOperation() == PlayerOperation.CREATE_PLAYER && request.getResultId() != null) {
+                    idMapping.put(request.getResultId(), new CompletableFuture<>());
+                }
+                inFlight.acquire();
+                CapturedRequest captured = request;
+                workers.execute(() -> {
+                    try {
+                        execute(captured);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                replayed++;
+            }
+        } finally {
+            workers.shutdown();
+            // cleanUp and the report must not run while requests are still creating players
+            while (!workers.awaitTermination(config.getRequestTimeout() * 2L, TimeUnit.MILLISECONDS)) {
+                logger.info("Waiting for in-flight replayed requests to finish");
+            }
+        }
+        logger.info("Replayed {} requests in {} ms", replayed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void execute(CapturedRequest captured) {
+        OperationStats operationStats = stats.get(captured.getOperation());
+        try {
+            boolean onPlayer = captured.getOperation() != PlayerOperation.CREATE_PLAYER
+                    && captured.getPlayerId() != null;
+            Long playerId = onPlayer ? remap(captured.getPlayerId()) : null;
+            if (onPlayer && playerId == null) {
+                operationStats.unmapped.increment();
+                logger.debug("Skipping {} of captured player {}: no replayed player", captured.getOperation(),
+                        captured.getPlayerId());
+                return;
+            }
+            Response response = send(captured, playerId);
+            operationStats.record(captured, response.statusCode(),
+                    TimeUnit.MILLISECONDS.toMicros(response.getTime()));
+        } catch (Exception e) {
+            logger.debug("Replay of {} failed: {}", captured.getOperation(), e.getMessage());
+            operationStats.failures.increment();
+        }
+    }
+
+    private Response send(CapturedRequest captured, Long playerId) {
+        String editor = captured.getEditor();
+        return switch (captured.getOperation()) {
+            case CREATE_PLAYER -> {
+                CompletableFuture<Long> mapping = captured.getResultId() != null
+                        ? idMapping.get(captured.getResultId()) : null;
+                Long newId = null;
+                try {
+                    String login = uniqueLogins && captured.getLogin() != null
+                            ? TestDataFactory.generateUniqueLogin() : captured.getLogin();
+                    Response response = playerApi.createPlayer(editor, login, captured.getPassword(),
+                            captured.getRole(), captured.getAge(), captured.getGender(), captured.getScreenName());
+                    if (response.statusCode() == 200) {
+                        newId = response.as(PlayerCreateResponse.class).getId();
+                        createdIds.add(newId);
+                    }
+                    yield response;
+                } finally {
+                    if (mapping != null) {
+                        mapping.complete(newId);
+                    }
+                }
+            }
+            case GET_PLAYER_BY_ID -> playerApi.getPlayerById(playerId);
+            case GET_ALL_PLAYERS -> playerApi.getAllPlayers();
+            case UPDATE_PLAYER -> playerApi.updatePlayer(editor, playerId, toUpdateRequest(captured));
+            case DELETE_PLAYER -> {
+                Response response = playerApi.deletePlayer(editor, playerId);
+                if (playerId != null
+                        && response.statusCode() == PlayerOperation.DELETE_PLAYER.getExpectedStatusCode()) {
+                    createdIds.remove(playerId);
+                }
+                yield response;
+            }
+        };
+    }
+
+    /**
+     * Id created during replay for a captured id, waiting for its create if that is still running. Null when the
+     * player was not created by the replayed traffic or its create failed or timed out, unless raw ids are enabled,
+     * in which case the captured id itself is returned.
+     */
+    private Long remap(Long capturedId) {
+        CompletableFuture<Long> mapping = capturedId != null ? idMapping.get(capturedId) : null;
+        Long unmapped = rawIds ? capturedId : null;
+        if (mapping == null) {
+            return unmapped;
+        }
+        try {
+            Long newId = mapping.get(config.getRequestTimeout() * 2L, TimeUnit.MILLISECONDS);
+            return newId != null ? newId : unmapped;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return unmapped;
+        } catch (ExecutionException | TimeoutException e) {
+            logger.debug("Create of captured player {} did not finish: {}", capturedId, e.getMessage());
+            return unmapped;
+        }
+    }
+
+    private static PlayerUpdateRequest toUpdateRequest(CapturedRequest captured) {
+        Integer age = null;
+        if (captured.getAge() != null) {
+            try {
+                age = Integer.valueOf(captured.getAge());
+            } catch (NumberFormatException e) {
+                logger.debug("Non numeric captured age '{}' replayed as null", captured.getAge());
+            }
+        }
+        return PlayerUpdateRequest.builder()
+                .login(captured.getLogin())
+                .password(captured.getPassword())
+                .role(captured.getRole())
+                .age(age)
+                .gender(captured.getGender())
+                .screenName(captured.getScreenName())
+                .build();
+    }
+
+    /**
+     * Deletes players created during replay that the replayed traffic did not delete itself
+     */
+    public void cleanUp() {
+        createdIds.forEach(id -> playerApi.deletePlayer(config.getSupervisorEditor(), id));
+        logger.info("Deleted {} players left by replay", createdIds.size());
+        createdIds.clear();
+    }
+
+    public void writeReport(Path capture) throws IOException {
+        StringBuilder table = new StringBuilder();
+        table.append("REPLAY REPORT ").append(capture.getFileName()).append(" -> ").append(config.getBaseUrl())
+                .append(" (speed ").append(Double.isInfinite(speed) ? "max" : speed + "x").append(")\n");
+        table.append(String.format(Locale.ROOT, "%-18s %9s %9s %9s %9s %9s %12s %12s %12s %12s%n",
+                "Operation", "Requests", "Same code", "Diff code", "Errors", "Unmapped",
+                "cap p50 ms", "rep p50 ms", "cap p99 ms", "rep p99 ms"));
+        stats.forEach((operation, operationStats) -> {
+            Histogram capturedLatency = operationStats.captured.getIntervalHistogram();
+            Histogram replayedLatency = operationStats.replayed.getIntervalHistogram();
+            long skipped = operationStats.unmapped.sum();
+            if (capturedLatency.getTotalCount() == 0 && operationStats.failures.sum() == 0 && skipped == 0) {
+                return;
+            }
+            table.append(String.format(Locale.ROOT, "%-18s %9d %9d %9d %9d %9d %12.2f %12.2f %12.2f %12.2f%n",
+                    operation, capturedLatency.getTotalCount() + operationStats.failures.sum() + skipped,
+                    operationStats.statusMatches.sum(), operationStats.mismatches.sum(), operationStats.failures.sum(),
+                    skipped,
+                    capturedLatency.getValueAtPercentile(50) / 1000.0, replayedLatency.getValueAtPercentile(50) / 1000.0,
+                    capturedLatency.getValueAtPercentile(99) / 1000.0, replayedLatency.getValueAtPercentile(99) / 1000.0));
+        });
+
+        logger.info("\n{}", table);
+        Path report = PerfSettings.getResultsDir().resolve(REPORT_FILE);
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, table, StandardCharsets.UTF_8);
+        logger.info("Replay report written to {}", report.toAbsolutePath());
+    }
+
+    /**
+     * Captured vs replayed outcome of one operation
+     */
+    private static class OperationStats {
+        private final Recorder captured = new Recorder(3);
+        private final Recorder replayed = new Recorder(3);
+        private final LongAdder statusMatches = new LongAdder();
+        private final LongAdder mismatches = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        // requests skipped because their captured player id has no replayed player
+        private final LongAdder unmapped = new LongAdder();
+
+        void record(CapturedRequest request, int statusCode, long latencyMicros) {
+            captured.recordValue(request.getLatencyMicros());
+            replayed.recordValue(latencyMicros);
+            if (statusCode == request.getStatusCode()) {
+                statusMatches.increment();
+            } else {
+                mismatches.increment();
+                logger.debug("{} status mismatch: captured {}, replayed {}",
+                        request.getOperation(), request.getStatusCode(), statusCode);
+            }
+        }
+    }
+}
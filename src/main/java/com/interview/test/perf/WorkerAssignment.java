@@ -0,0 +1,65 @@
+package com.interview.test.perf;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Share of a distributed load run handed by {@link LoadCoordinator} to one {@link LoadWorker}.
+ * The start time is not part of it: the coordinator sends it once every worker has seeded its players.
+ */
+public class WorkerAssignment {
+
+    private final int workerId;
+    private final int workerCount;
+    private final double rate;
+    private final Duration duration;
+    private final List<PlayerOperation> operations;
+
+    public WorkerAssignment(int workerId, int workerCount, double rate, Duration duration,
+                            List<PlayerOperation> operations) {
+        this.workerId = workerId;
+        this.workerCount = workerCount;
+        this.rate = rate;
+        this.duration = duration;
+        this.operations = operations;
+    }
+
+    public int getWorkerId() { return workerId; }
+    public int getWorkerCount() { return workerCount; }
+    public double getRate() { return rate; }
+    public Duration getDuration() { return duration; }
+    public List<PlayerOperation> getOperations() { return operations; }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(workerId);
+        out.writeInt(workerCount);
+        out.writeDouble(rate);
+        out.writeLong(duration.toMillis());
+        out.writeUTF(operations.stream().map(Enum::name).collect(Collectors.joining(",")));
+        out.flush();
+    }
+
+    public static WorkerAssignment readFrom(DataInputStream in) throws IOException {
+        return new WorkerAssignment(
+                in.readInt(),
+                in.readInt(),
+                in.readDouble(),
+                Duration.ofMillis(in.readLong()),
+                PlayerOperation.parseList(in.readUTF()));
+    }
+
+    @Override
+    public String toString() {
+        return "WorkerAssignment{" +
+                "workerId=" + workerId +
+                ", workerCount=" + workerCount +
+                ", rate=" + rate +
+                ", duration=" + duration +
+                ", operations=" + operations +
+                '}';
+    }
+}
@@ -0,0 +1,294 @@
+package com.interview.test.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongPredicate;
+
+/**
+ * Memory-mapped journal of the players a test run created and deleted, one locked file per run.
+ * Records are written straight into the mapped pages, so they reach the file even when the JVM is killed before
+ * the suite teardown runs. {@link #recover} deletes the players left behind by runs that no longer hold their lock.
+ * <p>
+ * Layout: magic, state (open or clean), then 8-byte records: id when created, -id when deleted, 0 when unused.
+ */
+public final class CleanupJournal implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CleanupJournal.class);
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long MAGIC = 0x314C4E524A4E4C43L; // "CLNJRNL1"
+    private static final long STATE_OPEN = 0;
+    private static final long STATE_CLEAN = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final String SUFFIX = ".journal";
+
+    private final Path file;
+    // the run's lock is held as long as the channel is open
+    private final FileChannel channel;
+    private final AtomicLong nextRecord = new AtomicLong();
+    private final LongAdder outstanding = new LongAdder();
+    private volatile MappedByteBuffer buffer;
+
+    private CleanupJournal(Path file, FileChannel channel, int initialRecords) throws IOException {
+        this.file = file;
+        this.channel = channel;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + 8L * initialRecords);
+        LONGS.setRelease(buffer, 0, MAGIC);
+        LONGS.setRelease(buffer, 8, STATE_OPEN);
+    }
+
+    /**
+     * Creates and locks the journal of this run in directory
+     */
+    public static CleanupJournal open(Path directory, int initialRecords) {
+        Path file = directory.resolve("run-" + UniqueIdGenerator.processToken() + SUFFIX);
+        FileChannel channel = null;
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            channel.lock();
+            return new CleanupJournal(file, channel, Math.max(initialRecords, 512));
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException("Failed to open cleanup journal " + file, e);
+        }
+    }
+
+    public void created(long id) {
+        append(id);
+        outstanding.increment();
+    }
+
+    public void deleted(long id) {
+        append(-id);
+        outstanding.decrement();
+    }
+
+    /**
+     * Players created and not yet deleted
+     */
+    public long outstanding() {
+        return outstanding.sum();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Marks the journal clean and deletes it when every player was deleted; otherwise keeps it for recovery
+     */
+    @Override
+    public synchronized void close() {
+        if (!channel.isOpen()) {
+            return;
+        }
+        long left = outstanding();
+        if (left <= 0) {
+            LONGS.setRelease(buffer, 8, STATE_CLEAN);
+        } else {
+            logger.warn("{} players were not deleted, {} is kept for recovery by the next run", left, file);
+        }
+        buffer.force();
+        closeQuietly(channel);
+        if (left <= 0) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // still mapped on some platforms; the clean state lets recovery delete it
+                logger.debug("Could not delete {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private void append(long value) {
+        long offset = HEADER_BYTES + 8 * nextRecord.getAndIncrement();
+        MappedByteBuffer current = buffer;
+        if (offset + 8 > current.capacity()) {
+            current = grow(offset + 8);
+        }
+        LONGS.setRelease(current, (int) offset, value);
+    }
+
+    /**
+     * Maps a larger region; writers still holding the old mapping write to the same file pages
+     */
+    private synchronized MappedByteBuffer grow(long required) {
+        if (required <= buffer.capacity()) {
+            return buffer;
+        }
+        long size = Math.max(required, 2L * buffer.capacity());
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Cleanup journal " + file + " is full");
+        }
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to grow cleanup journal " + file, e);
+        }
+    }
+
+    /**
+     * Deletes the players left in the journals of directory that no run holds locked anymore.
+     * A journal is removed once every leftover was deleted, otherwise it is retried by the next recovery.
+     *
+     * @param delete deletes one player, true when it is gone (including when it was already deleted)
+     * @return number of players deleted
+     */
+    public static int recover(Path directory, LongPredicate delete, int concurrency) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        List<Path> journals = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            files.forEach(journals::add);
+        } catch (IOException e) {
+            logger.warn("Failed to list cleanup journals in {}: {}", directory, e.getMessage());
+            return 0;
+        }
+
+        int recovered = 0;
+        for (Path journal : journals) {
+            CleanupRegistry leftovers = readUnlocked(journal);
+            if (leftovers == null) {
+                continue;
+            }
+            long total = leftovers.size();
+            int deleted = deleteAll(leftovers, delete, concurrency);
+            recovered += deleted;
+            if (deleted == total) {
+                try {
+                    Files.deleteIfExists(journal);
+                } catch (IOException e) {
+                    logger.warn("Failed to delete recovered journal {}: {}", journal, e.getMessage());
+                }
+                if (deleted > 0) {
+                    logger.info("Deleted {} players left by the run of {}", deleted, journal.getFileName());
+                }
+            } else {
+                logger.warn("Deleted {}/{} players left by the run of {}, the rest is retried next time", deleted,
+                        total, journal.getFileName());
+            }
+        }
+        return recovered;
+    }
+
+    /**
+     * Players created and not deleted according to journal, or null when its run is still alive
+     */
+    private static CleanupRegistry readUnlocked(Path journal) {
+        ByteBuffer content;
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                lock = null;
+            }
+            if (lock == null) {
+                return null;
+            }
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("journal too large");
+            }
+            content = ByteBuffer.allocate((int) channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            while (content.hasRemaining() && channel.read(content) >= 0) {
+                // read fully
+            }
+            lock.release();
+        } catch (IOException e) {
+            logger.warn("Failed to read cleanup journal {}: {}", journal, e.getMessage());
+            return null;
+        }
+        content.flip();
+
+        if (content.limit() < HEADER_BYTES || content.getLong(0) != MAGIC) {
+            logger.warn("{} is not a cleanup journal, ignoring it", journal);
+            return null;
+        }
+        CleanupRegistry leftovers = new CleanupRegistry(Math.max(content.limit() / 16, 16));
+        if (content.getLong(8) == STATE_CLEAN) {
+            return leftovers;
+        }
+        // records are reserved in order but may be written out of order, so deletions are applied after creations
+        for (int offset = HEADER_BYTES; offset + 8 <= content.limit(); offset += 8) {
+            long record = content.getLong(offset);
+            if (record > 0) {
+                leftovers.register(record);
+            }
+        }
+        for (int offset = HEADER_BYTES; offset + 8 <= content.limit(); offset += 8) {
+            long record = content.getLong(offset);
+            if (record < 0) {
+                leftovers.remove(-record);
+            }
+        }
+        return leftovers;
+    }
+
+    private static int deleteAll(CleanupRegistry leftovers, LongPredicate delete, int concurrency) {
+        long[] ids = new long[(int) leftovers.size()];
+        int count = leftovers.drain(ids);
+        if (count == 0) {
+            return 0;
+        }
+        AtomicInteger deleted = new AtomicInteger();
+        ExecutorService deleters = Executors.newFixedThreadPool(Math.max(1, Math.min(concurrency, count)));
+        List<Future<?>> deletions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = ids[i];
+            deletions.add(deleters.submit(() -> {
+                if (delete.test(id)) {
+                    deleted.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> deletion : deletions) {
+            try {
+                deletion.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.warn("Failed to delete leftover player: {}", e.getMessage());
+            }
+        }
+        deleters.shutdownNow();
+        return deleted.get();
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close journal channel: {}", e.getMessage());
+        }
+    }
+}
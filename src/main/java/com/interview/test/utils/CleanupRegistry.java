@@ -0,0 +1,237 @@
+package com.interview.test.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ids of players created during the suite that still have to be deleted. Shared by all test threads without
+ * locking: ids live in open-addressing tables of primitive longs updated with CAS. When a table fills up a twice
+ * as large one is chained in front of it, so nothing is ever rehashed or copied.
+ * Only positive ids are accepted, which is what the API assigns. With a {@link CleanupJournal} attached every
+ * registration and deletion is also journaled, so players survive a killed run for the next run's recovery.
+ */
+public final class CleanupRegistry {
+
+    private static final long EMPTY = 0;
+    private static final long REMOVED = Long.MIN_VALUE;
+    private static final CleanupRegistry instance = new CleanupRegistry(1024);
+
+    private final AtomicReference<Segment> newest;
+    private final LongAdder registered = new LongAdder();
+    private final LongAdder removed = new LongAdder();
+    private final LongAdder drained = new LongAdder();
+    private volatile CleanupJournal journal;
+
+    public CleanupRegistry(int initialCapacity) {
+        newest = new AtomicReference<>(new Segment(Integer.highestOneBit(Math.max(initialCapacity, 16) - 1) << 1, null));
+    }
+
+    public static CleanupRegistry getInstance() {
+        return instance;
+    }
+
+    public void attachJournal(CleanupJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * @return the detached journal, null when none was attached
+     */
+    public CleanupJournal detachJournal() {
+        CleanupJournal detached = journal;
+        journal = null;
+        return detached;
+    }
+
+    /**
+     * Tracks a created player for deletion at the end of the suite
+     */
+    public void register(long id) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("Player id must be positive: " + id);
+        }
+        while (true) {
+            Segment segment = newest.get();
+            if (segment.contains(id)) {
+                return;
+            }
+            int result = segment.insert(id);
+            if (result > 0) {
+                registered.increment();
+                recordCreated(id);
+                return;
+            }
+            if (result == 0) {
+                return;
+            }
+            // full: chain a larger table, whoever wins the CAS, and retry
+            newest.compareAndSet(segment, new Segment(segment.slots.length() * 2, segment));
+        }
+    }
+
+    /**
+     * Stops tracking a player deleted by a test
+     *
+     * @return true when the id was tracked
+     */
+    public boolean remove(long id) {
+        for (Segment segment = newest.get(); segment != null; segment = segment.previous) {
+            if (segment.remove(id)) {
+                removed.increment();
+                recordDeleted(id);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Journals a player created outside the registry, e.g. a fixture player
+     */
+    public void recordCreated(long id) {
+        CleanupJournal current = journal;
+        if (current != null) {
+            current.created(id);
+        }
+    }
+
+    /**
+     * Journals the deletion of a drained or fixture player
+     */
+    public void recordDeleted(long id) {
+        CleanupJournal current = journal;
+        if (current != null) {
+            current.deleted(id);
+        }
+    }
+
+    public boolean contains(long id) {
+        return newest.get().contains(id);
+    }
+
+    /**
+     * Removes up to batch.length tracked ids into batch
+     *
+     * @return the number of ids written, 0 once the registry is empty
+     */
+    public int drain(long[] batch) {
+        int count = 0;
+        for (Segment segment = newest.get(); segment != null && count < batch.length; segment = segment.previous) {
+            count = segment.drain(batch, count);
+        }
+        drained.add(count);
+        return count;
+    }
+
+    /**
+     * Ids currently tracked
+     */
+    public long size() {
+        return registered.sum() - removed.sum() - drained.sum();
+    }
+
+    public long getRegisteredCount() {
+        return registered.sum();
+    }
+
+    /**
+     * Ids removed because a test deleted the player itself
+     */
+    public long getRemovedCount() {
+        return removed.sum();
+    }
+
+    /**
+     * Ids handed out for cleanup by {@link #drain(long[])}
+     */
+    public long getDrainedCount() {
+        return drained.sum();
+    }
+
+    /**
+     * Linear-probing table; slots go EMPTY -> id -> REMOVED and are never reused, so probes stay valid
+     */
+    private static final class Segment {
+        private final AtomicLongArray slots;
+        private final AtomicInteger used = new AtomicInteger();
+        private final int maxUsed;
+        private final int mask;
+        private final Segment previous;
+
+        Segment(int capacity, Segment previous) {
+            this.slots = new AtomicLongArray(capacity);
+            this.maxUsed = capacity / 4 * 3;
+            this.mask = capacity - 1;
+            this.previous = previous;
+        }
+
+        /**
+         * @return 1 when inserted, 0 when already present, -1 when the segment is full
+         */
+        int insert(long id) {
+            if (used.get() >= maxUsed) {
+                return -1;
+            }
+            for (int i = hash(id), probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+                long current = slots.get(i);
+                if (current == id) {
+                    return 0;
+                }
+                if (current == EMPTY) {
+                    if (slots.compareAndSet(i, EMPTY, id)) {
+                        used.incrementAndGet();
+                        return 1;
+                    }
+                    if (slots.get(i) == id) {
+                        return 0;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        boolean contains(long id) {
+            for (Segment segment = this; segment != null; segment = segment.previous) {
+                if (segment.indexOf(id) >= 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean remove(long id) {
+            int index = indexOf(id);
+            return index >= 0 && slots.compareAndSet(index, id, REMOVED);
+        }
+
+        int drain(long[] batch, int count) {
+            for (int i = 0; i < slots.length() && count < batch.length; i++) {
+                long id = slots.get(i);
+                if (id != EMPTY && id != REMOVED && slots.compareAndSet(i, id, REMOVED)) {
+                    batch[count++] = id;
+                }
+            }
+            return count;
+        }
+
+        private int indexOf(long id) {
+            for (int i = hash(id), probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+                long current = slots.get(i);
+                if (current == id) {
+                    return i;
+                }
+                if (current == EMPTY) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        private int hash(long id) {
+            long h = id * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
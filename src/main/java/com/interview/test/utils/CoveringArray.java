@@ -0,0 +1,185 @@
+package com.interview.test.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Rows of value indices covering every combination of values of every strength-sized set of parameters
+ * (strength 2 = pairwise). Rows are built one at a time as they are iterated: each row starts from the first
+ * uncovered combination and fills the remaining parameters with the values covering the most new combinations.
+ * Iteration ends when everything is covered, typically after a small multiple of the two largest domain sizes.
+ */
+public final class CoveringArray implements Iterable<int[]> {
+
+    private final int strength;
+    private final int[] domainSizes;
+
+    private CoveringArray(int strength, int[] domainSizes) {
+        this.strength = strength;
+        this.domainSizes = domainSizes;
+    }
+
+    /**
+     * @param strength    combination size, 1 to the number of parameters
+     * @param domainSizes number of values of each parameter
+     */
+    public static CoveringArray of(int strength, int... domainSizes) {
+        if (strength < 1 || strength > domainSizes.length) {
+            throw new IllegalArgumentException("Strength " + strength + " for " + domainSizes.length + " parameters");
+        }
+        for (int size : domainSizes) {
+            if (size < 1) {
+                throw new IllegalArgumentException("Empty parameter domain");
+            }
+        }
+        return new CoveringArray(strength, domainSizes.clone());
+    }
+
+    public static CoveringArray pairwise(int... domainSizes) {
+        return of(Math.min(2, domainSizes.length), domainSizes);
+    }
+
+    @Override
+    public Iterator<int[]> iterator() {
+        return new RowIterator();
+    }
+
+    /**
+     * One set of parameters and which of its value combinations are covered
+     */
+    private final class Combination {
+        private final int[] parameters;
+        private final BitSet covered;
+        private final int size;
+
+        Combination(int[] parameters) {
+            this.parameters = parameters;
+            int count = 1;
+            for (int parameter : parameters) {
+                count = Math.multiplyExact(count, domainSizes[parameter]);
+            }
+            this.size = count;
+            this.covered = new BitSet(count);
+        }
+
+        /**
+         * Mixed-radix index of the combination of values in row, or -1 when a parameter is unassigned
+         */
+        int indexOf(int[] row) {
+            int index = 0;
+            for (int parameter : parameters) {
+                if (row[parameter] < 0) {
+                    return -1;
+                }
+                index = index * domainSizes[parameter] + row[parameter];
+            }
+            return index;
+        }
+
+        void assign(int index, int[] row) {
+            for (int i = parameters.length - 1; i >= 0; i--) {
+                int parameter = parameters[i];
+                row[parameter] = index % domainSizes[parameter];
+                index /= domainSizes[parameter];
+            }
+        }
+    }
+
+    private final class RowIterator implements Iterator<int[]> {
+        private final List<Combination> combinations = new ArrayList<>();
+        // combinations each parameter belongs to
+        private final List<List<Combination>> byParameter = new ArrayList<>();
+        private long uncovered;
+        private int rows;
+
+        RowIterator() {
+            for (int i = 0; i < domainSizes.length; i++) {
+                byParameter.add(new ArrayList<>());
+            }
+            addCombinations(new int[strength], 0, 0);
+            for (Combination combination : combinations) {
+                uncovered += combination.size;
+            }
+        }
+
+        private void addCombinations(int[] parameters, int depth, int from) {
+            if (depth == strength) {
+                Combination combination = new Combination(parameters.clone());
+                combinations.add(combination);
+                for (int parameter : combination.parameters) {
+                    byParameter.get(parameter).add(combination);
+                }
+                return;
+            }
+            for (int parameter = from; parameter < domainSizes.length; parameter++) {
+                parameters[depth] = parameter;
+                addCombinations(parameters, depth + 1, parameter + 1);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return uncovered > 0;
+        }
+
+        @Override
+        public int[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int[] row = new int[domainSizes.length];
+            Arrays.fill(row, -1);
+            for (Combination combination : combinations) {
+                int first = combination.covered.nextClearBit(0);
+                if (first < combination.size) {
+                    combination.assign(first, row);
+                    break;
+                }
+            }
+            for (int parameter = 0; parameter < domainSizes.length; parameter++) {
+                if (row[parameter] < 0) {
+                    row[parameter] = bestValue(row, parameter);
+                }
+            }
+            for (Combination combination : combinations) {
+                int index = combination.indexOf(row);
+                if (!combination.covered.get(index)) {
+                    combination.covered.set(index);
+                    uncovered--;
+                }
+            }
+            rows++;
+            return row;
+        }
+
+        /**
+         * Value covering the most new combinations with the parameters assigned so far; ties rotate with the row
+         */
+        private int bestValue(int[] row, int parameter) {
+            int domain = domainSizes[parameter];
+            int best = rows % domain;
+            int bestGain = -1;
+            for (int offset = 0; offset < domain; offset++) {
+                int value = (rows + offset) % domain;
+                row[parameter] = value;
+                int gain = 0;
+                for (Combination combination : byParameter.get(parameter)) {
+                    int index = combination.indexOf(row);
+                    if (index >= 0 && !combination.covered.get(index)) {
+                        gain++;
+                    }
+                }
+                if (gain > bestGain) {
+                    best = value;
+                    bestGain = gain;
+                }
+            }
+            row[parameter] = -1;
+            return best;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.interview.test.utils;
+
+import com.interview.test.config.ConfigurationManager;
+
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.net.http.HttpTimeoutException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tells transient infrastructure failures, which are worth a retry, from real test failures.
+ * Transport: a network error anywhere in the cause chain (connection refused or reset, socket or connect timeout,
+ * no response); other I/O errors such as unknown hosts or unparsable JSON are not transient.
+ * Server transient: the last response received has a status in test.retry.statuses (default 502, 503, 504),
+ * whatever the test then failed on. Everything else, assertion failures on regular responses included, is a test
+ * failure and is never retried.
+ */
+public final class FailureClassifier {
+
+    public enum Category {
+        TRANSPORT, SERVER_TRANSIENT, TEST_FAILURE;
+
+        public boolean isTransient() {
+            return this != TEST_FAILURE;
+        }
+    }
+
+    // HTTP client exceptions of Apache HttpClient (used by RestAssured), matched by name
+    private static final Set<String> TRANSPORT_EXCEPTIONS = Set.of(
+            "org.apache.http.NoHttpResponseException", "org.apache.http.ConnectionClosedException");
+
+    private static final Set<Integer> TRANSIENT_STATUSES = Arrays.stream(ConfigurationManager.getInstance()
+                    .getProperty("test.retry.statuses", "502,503,504").split(","))
+            .map(String::trim)
+            .filter(status -> !status.isEmpty())
+            .map(Integer::valueOf)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private FailureClassifier() {}
+
+    /**
+     * @param throwable  the failure, null when the request itself succeeded
+     * @param lastStatus status of the last response received, or -1 when there was none
+     */
+    public static Category classify(Throwable throwable, int lastStatus) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (isTransport(cause)) {
+                return Category.TRANSPORT;
+            }
+        }
+        return isTransientStatus(lastStatus) ? Category.SERVER_TRANSIENT : Category.TEST_FAILURE;
+    }
+
+    private static boolean isTransport(Throwable throwable) {
+        return throwable instanceof SocketException
+                || throwable instanceof InterruptedIOException
+                || throwable instanceof HttpTimeoutException
+                || TRANSPORT_EXCEPTIONS.contains(throwable.getClass().getName());
+    }
+
+    public static boolean isTransientStatus(int status) {
+        return TRANSIENT_STATUSES.contains(status);
+    }
+}
@@ -0,0 +1,37 @@
+package com.interview.test.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * Validator generated at build time from a JSON schema (see gradle/schema-validators.gradle).
+ * Implementations are registered through META-INF/services and picked up by {@link JsonSchemaRegistry}.
+ */
+public interface GeneratedSchemaValidator {
+
+    /**
+     * Classpath location of the schema the validator was generated from
+     */
+    String getSchemaPath();
+
+    /**
+     * Appends violations as "JSON pointer: message"; nothing is appended for a valid instance
+     */
+    void validate(JsonNode instance, List<String> violations);
+
+    static String at(String pointer) {
+        return pointer.isEmpty() ? "/" : pointer;
+    }
+
+    static String child(String pointer, String name) {
+        return pointer + "/" + name.replace("~", "~0").replace("/", "~1");
+    }
+
+    static String typeOf(JsonNode node) {
+        if (node.isIntegralNumber()) {
+            return "integer";
+        }
+        return node.getNodeType().name().toLowerCase();
+    }
+}
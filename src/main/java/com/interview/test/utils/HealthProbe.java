@@ -0,0 +1,166 @@
+package com.interview.test.utils;
+
+import com.interview.test.config.ConfigurationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fast reachability check of app.base.url, so a dead environment is reported in seconds instead of every test
+ * waiting for api.request.timeout. Any response counts as reachable except the transient statuses of
+ * {@link FailureClassifier} (a gateway answering for a stopped server); network errors and timeouts of
+ * test.health.timeout.millis do not. The check is fail-open: if the probe itself cannot run (bad URL, unexpected
+ * error) the server is assumed to be up and the tests report the actual problem.
+ * <p>
+ * While tests run, a background probe every test.health.interval.seconds marks the server down after
+ * test.health.failure.threshold consecutive failures; the run is not resumed if it comes back.
+ */
+public class HealthProbe {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthProbe.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss");
+    private static final HealthProbe INSTANCE = new HealthProbe();
+
+    private final String url = config.getBaseUrl() + config.getProperty("test.health.path", "/");
+    private final Duration timeout = Duration.ofMillis(
+            Long.parseLong(config.getProperty("test.health.timeout.millis", "2000")));
+    private final int attempts = Math.max(1, Integer.parseInt(config.getProperty("test.health.attempts", "3")));
+    private final long retryDelayMillis = Long.parseLong(config.getProperty("test.health.retry.delay.millis", "500"));
+    private final long intervalSeconds = Long.parseLong(config.getProperty("test.health.interval.seconds", "15"));
+    private final int failureThreshold = Math.max(1,
+            Integer.parseInt(config.getProperty("test.health.failure.threshold", "2")));
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(timeout).build();
+
+    private volatile String downReason;
+    private ScheduledExecutorService monitor;
+    // only touched by the monitor thread
+    private int consecutiveFailures;
+
+    public static HealthProbe getInstance() {
+        return INSTANCE;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(config.getProperty("test.health.enabled", "true"));
+    }
+
+    /**
+     * Probes up to test.health.attempts times, test.health.retry.delay.millis apart
+     *
+     * @return null when the server answered, otherwise why it is considered down (also kept as the down reason)
+     */
+    public String checkReachable() {
+        String failure = null;
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            failure = probe();
+            if (failure == null) {
+                logger.info("API at {} is reachable", url);
+                return null;
+            }
+            logger.warn("Health probe {}/{} of {} failed: {}", attempt, attempts, url, failure);
+            if (attempt < attempts && !sleep(retryDelayMillis)) {
+                break;
+            }
+        }
+        downReason = "API at " + url + " is unreachable (" + failure + ") after " + attempts + " attempts";
+        return downReason;
+    }
+
+    /**
+     * Starts probing in the background; does nothing when test.health.interval.seconds is 0
+     */
+    public synchronized void startMonitor() {
+        if (monitor != null || intervalSeconds <= 0) {
+            return;
+        }
+        monitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "health-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        monitor.scheduleWithFixedDelay(this::monitorOnce, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public synchronized void stopMonitor() {
+        if (monitor != null) {
+            monitor.shutdownNow();
+            monitor = null;
+        }
+    }
+
+    /**
+     * Why the server is considered down, null while it is up
+     */
+    public String getDownReason() {
+        return downReason;
+    }
+
+    public boolean isDown() {
+        return downReason != null;
+    }
+
+    private void monitorOnce() {
+        if (downReason != null) {
+            return;
+        }
+        String failure = probe();
+        if (failure == null) {
+            consecutiveFailures = 0;
+            return;
+        }
+        consecutiveFailures++;
+        logger.warn("Background health probe of {} failed ({}/{}): {}", url, consecutiveFailures, failureThreshold,
+                failure);
+        if (consecutiveFailures >= failureThreshold) {
+            downReason = "API at " + url + " went down at " + LocalDateTime.now().format(formatter) + " ("
+                    + failure + ")";
+            logger.error("{}, skipping the remaining tests", downReason);
+        }
+    }
+
+    /**
+     * One request; null when the server answered, otherwise the failure
+     */
+    private String probe() {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(timeout)
+                    .header("User-Agent", "PlayerAPI-TestFramework/1.0")
+                    .GET()
+                    .build();
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return FailureClassifier.isTransientStatus(status) ? "status " + status : null;
+        } catch (IOException e) {
+            return e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : "");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (RuntimeException e) {
+            // fail-open: a probe that cannot run says nothing about the server
+            logger.warn("Health probe of {} could not run, assuming the API is up: {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.interview.test.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.interview.test.config.ConfigurationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Loads and compiles every JSON schema under the classpath schemas/ directory once and shares the compiled
+ * validators across threads. Schemas outside that directory are compiled on first use and cached as well.
+ * When a build-time {@link GeneratedSchemaValidator} exists for a schema it is used instead of the runtime
+ * validator, unless validation.schema.generated=false.
+ */
+public final class JsonSchemaRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonSchemaRegistry.class);
+    private static final String SCHEMA_DIR = "schemas";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JsonSchemaFactory schemaFactory = JsonSchemaFactory.byDefault();
+    private static final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+    private static final Map<String, GeneratedSchemaValidator> generatedValidators = new HashMap<>();
+    private static final boolean useGenerated = Boolean.parseBoolean(
+            ConfigurationManager.getInstance().getProperty("validation.schema.generated", "true"));
+
+    static {
+        preload();
+        ServiceLoader.load(GeneratedSchemaValidator.class)
+                .forEach(validator -> generatedValidators.put(validator.getSchemaPath(), validator));
+        logger.debug("{} generated schema validators available", generatedValidators.size());
+    }
+
+    private JsonSchemaRegistry() {}
+
+    /**
+     * @param schemaPath classpath location, e.g. schemas/player-get-all-schema.json
+     */
+    public static JsonSchema get(String schemaPath) {
+        return schemas.computeIfAbsent(schemaPath, JsonSchemaRegistry::compile);
+    }
+
+    /**
+     * @return the build-time validator for the schema, or null when none was generated
+     */
+    public static GeneratedSchemaValidator getGenerated(String schemaPath) {
+        return generatedValidators.get(schemaPath);
+    }
+
+    public static ProcessingReport validate(String schemaPath, String json) {
+        try {
+            return get(schemaPath).validateUnchecked(objectMapper.readTree(json));
+        } catch (IOException e) {
+            throw new AssertionError("Response body is not valid JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Throws an AssertionError listing every violation when the JSON does not match the schema
+     */
+    public static void assertValid(String schemaPath, String json) {
+        GeneratedSchemaValidator generated = useGenerated ? generatedValidators.get(schemaPath) : null;
+        if (generated != null) {
+            assertValid(generated, json);
+            return;
+        }
+        ProcessingReport report = validate(schemaPath, json);
+        if (!report.isSuccess()) {
+            StringBuilder message = new StringBuilder("JSON does not match schema ").append(schemaPath).append(':');
+            for (ProcessingMessage processingMessage : report) {
+                message.append("\n  ").append(processingMessage.getMessage());
+            }
+            throw new AssertionError(message.toString());
+        }
+    }
+
+    private static void assertValid(GeneratedSchemaValidator validator, String json) {
+        List<String> violations = new ArrayList<>();
+        try {
+            validator.validate(objectMapper.readTree(json), violations);
+        } catch (IOException e) {
+            throw new AssertionError("Response body is not valid JSON: " + e.getMessage(), e);
+        }
+        if (!violations.isEmpty()) {
+            throw new AssertionError("JSON does not match schema " + validator.getSchemaPath() + ":\n  "
+                    + String.join("\n  ", violations));
+        }
+    }
+
+    private static JsonSchema compile(String schemaPath) {
+        try (InputStream input = JsonSchemaRegistry.class.getClassLoader().getResourceAsStream(schemaPath)) {
+            if (input == null) {
+                throw new IllegalArgumentException("Schema not found on classpath: " + schemaPath);
+            }
+            JsonNode schemaNode = objectMapper.readTree(input);
+            return schemaFactory.getJsonSchema(schemaNode);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read schema " + schemaPath, e);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("Invalid schema " + schemaPath + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void preload() {
+        URL directory = JsonSchemaRegistry.class.getClassLoader().getResource(SCHEMA_DIR);
+        if (directory == null) {
+            logger.debug("No {} directory on classpath, schemas will be compiled on first use", SCHEMA_DIR);
+            return;
+        }
+        try {
+            URI uri = directory.toURI();
+            if ("jar".equals(uri.getScheme())) {
+                try (FileSystem jar = FileSystems.newFileSystem(uri, Collections.emptyMap())) {
+                    preload(jar.getPath(SCHEMA_DIR));
+                }
+            } else {
+                preload(Paths.get(uri));
+            }
+            logger.debug("Compiled {} JSON schemas", schemas.size());
+        } catch (IOException | URISyntaxException e) {
+            logger.warn("Failed to preload JSON schemas, falling back to lazy compilation: {}", e.getMessage());
+        }
+    }
+
+    private static void preload(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .forEach(file -> get(SCHEMA_DIR + "/" + file.getFileName()));
+        }
+    }
+}
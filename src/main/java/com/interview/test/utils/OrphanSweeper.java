@@ -0,0 +1,267 @@
+package com.interview.test.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.interview.test.api.PlayerApiClient;
+import com.interview.test.config.ConfigurationManager;
+import com.interview.test.models.PlayerGetByIdResponse;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Deletes test players left on the server by earlier runs, whatever their ids. The get-all response is streamed
+ * and parsed player by player, so memory does not grow with the number of players. Players whose screen name
+ * matches test.sweeper.screen.name.pattern are fetched by id, and deleted when their login starts with one of
+ * test.sweeper.login.prefixes (the get-all items have no login). Requests are limited to test.sweeper.rate per
+ * second over test.sweeper.concurrency threads; with test.sweeper.dry.run matches are only logged.
+ */
+public class OrphanSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrphanSweeper.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final Pattern screenNamePattern;
+    private final List<String> loginPrefixes;
+    private final Set<String> protectedRoles;
+    private final int concurrency;
+    private final boolean dryRun;
+    private final Pacer pacer;
+    // no repeats: every request the sweeper sends goes through the pacer
+    private final PlayerApiClient playerApi = new PlayerApiClient(false);
+    private final LongAdder scanned = new LongAdder();
+    private final LongAdder candidates = new LongAdder();
+    private final LongAdder matched = new LongAdder();
+    private final LongAdder deleted = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public OrphanSweeper(Pattern screenNamePattern, List<String> loginPrefixes, Set<String> protectedRoles,
+                         double requestsPerSecond, int concurrency, boolean dryRun) {
+        this.screenNamePattern = screenNamePattern;
+        this.loginPrefixes = loginPrefixes;
+        this.protectedRoles = protectedRoles;
+        this.concurrency = Math.max(concurrency, 1);
+        this.dryRun = dryRun;
+        this.pacer = new Pacer(requestsPerSecond);
+    }
+
+    public static OrphanSweeper fromConfig() {
+        String prefixes = config.getProperty("test.sweeper.login.prefixes", "");
+        if (prefixes.isBlank()) {
+            prefixes = config.getProperty("default.player.login.prefix", "test_user_");
+        }
+        return new OrphanSweeper(
+                Pattern.compile(config.getProperty("test.sweeper.screen.name.pattern", ".*")),
+                splitList(prefixes),
+                Set.copyOf(splitList(config.getProperty("test.sweeper.protected.roles", "supervisor"))),
+                Double.parseDouble(config.getProperty("test.sweeper.rate", "20")),
+                Integer.parseInt(config.getProperty("test.sweeper.concurrency", "8")),
+                Boolean.parseBoolean(config.getProperty("test.sweeper.dry.run", "false")));
+    }
+
+    public static void main(String[] args) {
+        fromConfig().sweep();
+    }
+
+    /**
+     * Streams the player list and deletes (or, in dry run, logs) every matching player
+     *
+     * @return number of players deleted, or matched in dry run
+     */
+    public long sweep() {
+        logger.info("Sweeping {} for players with screen name {} and login prefix {}{}", config.getBaseUrl(),
+                screenNamePattern, loginPrefixes, dryRun ? " (dry run)" : "");
+        long start = System.nanoTime();
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "sweeper-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // bounds the candidates waiting for a worker, so a huge list is never buffered
+        Semaphore queued = new Semaphore(concurrency * 4);
+        try (InputStream body = playerApi.openAllPlayersStream(); JsonParser parser = jsonFactory.createParser(body)) {
+            if (!seekPlayersArray(parser)) {
+                throw new IllegalStateException("Get all players response has no players array");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Candidate candidate = readPlayer(parser);
+                scanned.increment();
+                if (!isCandidate(candidate)) {
+                    continue;
+                }
+                candidates.increment();
+                queued.acquireUninterruptibly();
+                workers.execute(() -> {
+                    try {
+                        process(candidate.id);
+                    } finally {
+                        queued.release();
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stream the player list", e);
+        } finally {
+            workers.shutdown();
+            try {
+                workers.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                workers.shutdownNow();
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.info("Sweep finished in {} ms: {} players scanned, {} candidates, {} matched, {} deleted, {} failed",
+                elapsedMillis, scanned.sum(), candidates.sum(), matched.sum(), deleted.sum(), failed.sum());
+        return dryRun ? matched.sum() : deleted.sum();
+    }
+
+    public long getScannedCount() {
+        return scanned.sum();
+    }
+
+    public long getMatchedCount() {
+        return matched.sum();
+    }
+
+    public long getDeletedCount() {
+        return deleted.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    private boolean isCandidate(Candidate candidate) {
+        return candidate.id > 0
+                && candidate.screenName != null
+                && !protectedRoles.contains(candidate.role)
+                && screenNamePattern.matcher(candidate.screenName).matches();
+    }
+
+    /**
+     * Confirms the login marker of one candidate and deletes it
+     */
+    private void process(long id) {
+        try {
+            pacer.acquire();
+            Response response = playerApi.getPlayerById(id);
+            if (response.getStatusCode() != 200) {
+                // deleted meanwhile or not readable, nothing to sweep
+                return;
+            }
+            String login = response.as(PlayerGetByIdResponse.class).getLogin();
+            if (login == null || loginPrefixes.stream().noneMatch(login::startsWith)) {
+                return;
+            }
+            matched.increment();
+            if (dryRun) {
+                logger.info("Would delete player {} ({})", id, login);
+                return;
+            }
+            pacer.acquire();
+            int status = playerApi.deletePlayer(config.getSupervisorEditor(), id).getStatusCode();
+            if (status == 200 || status == 204 || status == 404) {
+                deleted.increment();
+                logger.debug("Deleted player {} ({})", id, login);
+            } else {
+                failed.increment();
+                logger.warn("Failed to delete player {} ({}): status {}", id, login, status);
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            logger.warn("Failed to sweep player {}: {}", id, e.getMessage());
+        }
+    }
+
+    /**
+     * Moves the parser onto the start of the root "players" array
+     */
+    private static boolean seekPlayersArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("players".equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static Candidate readPlayer(JsonParser parser) throws IOException {
+        Candidate candidate = new Candidate();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> candidate.id = value.isNumeric() ? parser.getLongValue() : 0;
+                case "screenName" -> candidate.screenName = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "role" -> candidate.role = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                default -> parser.skipChildren();
+            }
+        }
+        return candidate;
+    }
+
+    private static List<String> splitList(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static final class Candidate {
+        long id;
+        String screenName;
+        String role;
+    }
+
+    /**
+     * Spaces requests evenly at the configured rate across all workers; unused time is not saved up as a burst
+     */
+    private static final class Pacer {
+        private final long intervalNanos;
+        private final AtomicLong next = new AtomicLong(System.nanoTime());
+
+        Pacer(double requestsPerSecond) {
+            this.intervalNanos = requestsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) : 0;
+        }
+
+        void acquire() {
+            if (intervalNanos == 0) {
+                return;
+            }
+            long now = System.nanoTime();
+            long due = next.getAndUpdate(previous -> Math.max(previous, now) + intervalNanos);
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.interview.test.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.test.config.ConfigurationManager;
+import com.interview.test.models.PlayerItem;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Validates every item of a get-all players list: the item rules of the schema (required, minimum), the field
+ * invariants of {@link ValidationUtils} and id uniqueness. The field rules can be limited to some of the players
+ * (e.g. the ones the caller created) while ids are always checked over the whole list. Lists of at least validation.parallel.threshold items
+ * are split into chunks of validation.parallel.chunk.size validated on the common fork-join pool; smaller lists
+ * are validated sequentially. Violations are always reported in item order, so both paths give the same result.
+ */
+public class PlayerListValidator {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Map<String, Function<PlayerItem, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("id", PlayerItem::getId);
+        FIELDS.put("age", PlayerItem::getAge);
+        FIELDS.put("gender", PlayerItem::getGender);
+        FIELDS.put("role", PlayerItem::getRole);
+        FIELDS.put("screenName", PlayerItem::getScreenName);
+    }
+
+    private final List<String> required;
+    private final Map<String, BigDecimal> minimums;
+    private final int parallelThreshold;
+    private final int chunkSize;
+
+    private PlayerListValidator(List<String> required, Map<String, BigDecimal> minimums, int parallelThreshold,
+                                int chunkSize) {
+        this.required = required;
+        this.minimums = minimums;
+        this.parallelThreshold = parallelThreshold;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Builds the validator from the item schema of an array property, thresholds from configuration
+     */
+    public static PlayerListValidator fromSchema(String schemaPath, String arrayProperty) {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        return fromSchema(schemaPath, arrayProperty,
+                Integer.parseInt(config.getProperty("validation.parallel.threshold", "10000")),
+                Integer.parseInt(config.getProperty("validation.parallel.chunk.size", "4096")));
+    }
+
+    public static PlayerListValidator fromSchema(String schemaPath, String arrayProperty, int parallelThreshold,
+                                                 int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        JsonNode schema;
+        try (InputStream input = PlayerListValidator.class.getClassLoader().getResourceAsStream(schemaPath)) {
+            if (input == null) {
+                throw new IllegalArgumentException("Schema not found on classpath: " + schemaPath);
+            }
+            schema = objectMapper.readTree(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read schema " + schemaPath, e);
+        }
+        JsonNode items = schema.path("properties").path(arrayProperty).path("items");
+        if (!items.isObject()) {
+            throw new IllegalArgumentException(schemaPath + " has no item schema for array property " + arrayProperty);
+        }
+
+        List<String> required = new ArrayList<>();
+        items.path("required").forEach(name -> required.add(checkedField(schemaPath, name.asText())));
+        Map<String, BigDecimal> minimums = new LinkedHashMap<>();
+        items.path("properties").fields().forEachRemaining(entry -> {
+            JsonNode minimum = entry.getValue().get("minimum");
+            if (minimum != null) {
+                minimums.put(checkedField(schemaPath, entry.getKey()), minimum.decimalValue());
+            }
+        });
+        return new PlayerListValidator(required, minimums, parallelThreshold, chunkSize);
+    }
+
+    private static String checkedField(String schemaPath, String name) {
+        if (!FIELDS.containsKey(name)) {
+            throw new IllegalArgumentException(schemaPath + " item property " + name + " is not mapped by PlayerItem");
+        }
+        return name;
+    }
+
+    /**
+     * @return violations as "/players/index/field: message" in item order, empty when every item is valid
+     */
+    public List<String> validate(List<PlayerItem> players) {
+        return validate(players, player -> true);
+    }
+
+    /**
+     * Checks the item rules and field invariants only of the players accepted by checkFields; null items and
+     * duplicate ids are reported for the whole list
+     *
+     * @return violations as "/players/index/field: message" in item order, empty when every item is valid
+     */
+    public List<String> validate(List<PlayerItem> players, Predicate<PlayerItem> checkFields) {
+        boolean parallel = players.size() >= parallelThreshold;
+        Map<Long, Integer> firstIndexOfDuplicate = duplicates(players, parallel);
+        if (!parallel) {
+            return validateRange(players, 0, players.size(), firstIndexOfDuplicate, checkFields);
+        }
+        return ForkJoinPool.commonPool().invoke(
+                new ChunkTask(players, 0, players.size(), firstIndexOfDuplicate, checkFields));
+    }
+
+    /**
+     * Index of the first occurrence of every id that occurs more than once. Duplicates are found by sorting the
+     * ids, the (rare) duplicated ids are then located with one more pass.
+     */
+    private static Map<Long, Integer> duplicates(List<PlayerItem> players, boolean parallel) {
+        long[] ids = new long[players.size()];
+        int count = 0;
+        for (PlayerItem player : players) {
+            if (player != null && player.getId() != null) {
+                ids[count++] = player.getId();
+            }
+        }
+        if (parallel) {
+            Arrays.parallelSort(ids, 0, count);
+        } else {
+            Arrays.sort(ids, 0, count);
+        }
+        Map<Long, Integer> firstIndex = new HashMap<>();
+        for (int i = 1; i < count; i++) {
+            if (ids[i] == ids[i - 1]) {
+                firstIndex.put(ids[i], -1);
+            }
+        }
+        if (firstIndex.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        for (int i = 0; i < players.size(); i++) {
+            PlayerItem player = players.get(i);
+            if (player != null && player.getId() != null) {
+                firstIndex.replace(player.getId(), -1, i);
+            }
+        }
+        return firstIndex;
+    }
+
+    private List<String> validateRange(List<PlayerItem> players, int from, int to,
+                                       Map<Long, Integer> firstIndexOfDuplicate, Predicate<PlayerItem> checkFields) {
+        List<String> violations = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            validateItem(players.get(i), i, firstIndexOfDuplicate, checkFields, violations);
+        }
+        return violations;
+    }
+
+    private void validateItem(PlayerItem player, int index, Map<Long, Integer> firstIndexOfDuplicate,
+                              Predicate<PlayerItem> checkFields, List<String> violations) {
+        String pointer = "/players/" + index;
+        if (player == null) {
+            violations.add(pointer + ": expected object but found null");
+            return;
+        }
+        if (checkFields.test(player)) {
+            validateFields(player, pointer, violations);
+        }
+
+        Long id = player.getId();
+        Integer first = id == null ? null : firstIndexOfDuplicate.get(id);
+        if (first != null && first != index) {
+            violations.add(pointer + "/id: duplicate id " + id + ", first seen at /players/" + first);
+        }
+    }
+
+    private void validateFields(PlayerItem player, String pointer, List<String> violations) {
+        for (String field : required) {
+            if (FIELDS.get(field).apply(player) == null) {
+                violations.add(pointer + ": missing required property '" + field + "'");
+            }
+        }
+        minimums.forEach((field, minimum) -> {
+            Object value = FIELDS.get(field).apply(player);
+            if (value instanceof Number number && new BigDecimal(number.toString()).compareTo(minimum) < 0) {
+                violations.add(pointer + "/" + field + ": value " + number + " is lower than minimum " + minimum);
+            }
+        });
+
+        if (player.getAge() != null && !ValidationUtils.isValidAge(player.getAge())) {
+            violations.add(pointer + "/age: age " + player.getAge() + " is out of the allowed range");
+        }
+        if (player.getGender() != null && !ValidationUtils.isValidGender(player.getGender())) {
+            violations.add(pointer + "/gender: unknown gender '" + player.getGender() + "'");
+        }
+        if (player.getRole() != null && !ValidationUtils.isValidRole(player.getRole())) {
+            violations.add(pointer + "/role: unknown role '" + player.getRole() + "'");
+        }
+        if (player.getScreenName() != null && !ValidationUtils.isValidScreenName(player.getScreenName())) {
+            violations.add(pointer + "/screenName: invalid screen name '" + player.getScreenName() + "'");
+        }
+    }
+
+    /**
+     * Splits the index range in halves until it fits one chunk; the left half's violations come first
+     */
+    private class ChunkTask extends RecursiveTask<List<String>> {
+        private final List<PlayerItem> players;
+        private final int from;
+        private final int to;
+        private final Map<Long, Integer> firstIndexOfDuplicate;
+        private final Predicate<PlayerItem> checkFields;
+
+        ChunkTask(List<PlayerItem> players, int from, int to, Map<Long, Integer> firstIndexOfDuplicate,
+                  Predicate<PlayerItem> checkFields) {
+            this.players = players;
+            this.from = from;
+            this.to = to;
+            this.firstIndexOfDuplicate = firstIndexOfDuplicate;
+            this.checkFields = checkFields;
+        }
+
+        @Override
+        protected List<String> compute() {
+            if (to - from <= chunkSize) {
+                return validateRange(players, from, to, firstIndexOfDuplicate, checkFields);
+            }
+            int middle = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(players, from, middle, firstIndexOfDuplicate, checkFields);
+            left.fork();
+            List<String> right = new ChunkTask(players, middle, to, firstIndexOfDuplicate, checkFields).compute();
+            List<String> violations = left.join();
+            if (violations.isEmpty()) {
+                return right;
+            }
+            violations.addAll(right);
+            return violations;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.interview.test.utils;
+
+import com.interview.test.config.ConfigurationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestNGListener;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlSuite;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs the test suite split across test.shards JVMs. Every shard JVM runs all test classes found in the class
+ * directories given as arguments, and ShardSelector keeps its share of the methods, balanced by the durations
+ * of previous runs. All shards write to the same allure.results.directory. When every shard has finished, their
+ * measured durations are merged into test.durations.file and, if enabled, the orphan sweeper runs once for the
+ * whole run (a sweeper inside a shard could delete players of the shards still running).
+ */
+public class ShardedTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedTestRunner.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    private static final String SHARD_ARGUMENT = "--shard";
+    // same listeners as spribeTests and testng.xml; ShardSelector has to filter before the scheduler orders
+    private static final List<String> LISTENERS = List.of(
+            "io.qameta.allure.testng.AllureTestNg",
+            "com.interview.test.listeners.TestExecutionListener",
+            "com.interview.test.listeners.AllureEnvironmentWriter",
+            "com.interview.test.listeners.ShardSelector",
+            "com.interview.test.listeners.DependencyAwareScheduler");
+
+    private final int shardCount = Math.max(1, Integer.parseInt(config.getProperty("test.shards", "1")));
+    private final Path workDir = Paths.get(config.getProperty("test.shard.work.dir", "build/test-shards"));
+    private final Path durationsFile = Paths.get(
+            config.getProperty("test.durations.file", ".test-durations/durations.properties"));
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && SHARD_ARGUMENT.equals(args[0])) {
+            System.exit(runShard(Arrays.copyOfRange(args, 1, args.length)));
+        }
+        System.exit(new ShardedTestRunner().run(args));
+    }
+
+    /**
+     * Launches the shard JVMs and waits for all of them
+     *
+     * @param classesDirs directories of the compiled test classes
+     * @return 0 when every shard passed, otherwise the highest TestNG status of a shard
+     */
+    public int run(String... classesDirs) throws IOException, InterruptedException {
+        Files.createDirectories(workDir);
+        logger.info("Running the test suite in {} shards", shardCount);
+        long start = System.nanoTime();
+        List<Process> processes = new ArrayList<>(shardCount);
+        List<CompletableFuture<Long>> finished = new ArrayList<>(shardCount);
+        try {
+            for (int shard = 0; shard < shardCount; shard++) {
+                Files.deleteIfExists(durationsOutput(shard));
+                Process process = launchShard(shard, classesDirs);
+                processes.add(process);
+                // completion time of each shard, so the balance of the split shows in the log
+                finished.add(process.onExit().thenApply(exited -> System.nanoTime()));
+            }
+
+            int status = 0;
+            for (int shard = 0; shard < shardCount; shard++) {
+                int exitCode = processes.get(shard).waitFor();
+                long millis = TimeUnit.NANOSECONDS.toMillis(finished.get(shard).join() - start);
+                logger.info("Shard {}/{} finished with status {} after {} ms", shard + 1, shardCount, exitCode, millis);
+                status = Math.max(status, exitCode);
+            }
+            logger.info("All {} shards finished in {} ms", shardCount,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            mergeDurations();
+            if (Boolean.parseBoolean(config.getProperty("test.sweeper.enabled", "false"))) {
+                OrphanSweeper.fromConfig().sweep();
+            }
+            return status;
+        } finally {
+            for (Process process : processes) {
+                if (process.isAlive()) {
+                    process.destroyForcibly();
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts a shard JVM with the runner's classpath, agents and configuration
+     */
+    private Process launchShard(int shard, String[] classesDirs) {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            // the AspectJ agent is needed for Allure steps
+            if (argument.startsWith("-javaagent:") || argument.startsWith("-Xmx")) {
+                command.add(argument);
+            }
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        System.getProperties().forEach((key, value) -> {
+            String name = key.toString();
+            if ((name.startsWith("app.") || name.startsWith("test.") || name.startsWith("api.")
+                    || name.startsWith("perf.") || name.startsWith("allure."))
+                    && !name.equals("test.sweeper.enabled")) {
+                command.add("-D" + name + "=" + value);
+            }
+        });
+        command.add("-Dtest.shard.index=" + shard);
+        command.add("-Dtest.shard.count=" + shardCount);
+        command.add("-Dtest.durations.output=" + durationsOutput(shard));
+        command.add("-Dtest.sweeper.enabled=false");
+        command.add(ShardedTestRunner.class.getName());
+        command.add(SHARD_ARGUMENT);
+        command.addAll(Arrays.asList(classesDirs));
+
+        logger.info("Launching shard {}/{}", shard + 1, shardCount);
+        try {
+            return new ProcessBuilder(command).inheritIO().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to launch shard " + (shard + 1), e);
+        }
+    }
+
+    private void mergeDurations() {
+        Map<String, Long> measured = new HashMap<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            TestDurationHistory.load(durationsOutput(shard))
+                    .forEach((test, millis) -> measured.merge(test, millis, Long::sum));
+        }
+        TestDurationHistory.merge(durationsFile, measured);
+    }
+
+    private Path durationsOutput(int shard) {
+        return workDir.resolve("shard-" + shard + ".durations").toAbsolutePath();
+    }
+
+    /**
+     * Runs the test classes of classesDirs in this JVM; ShardSelector picks the methods of this shard
+     *
+     * @return TestNG status, 0 when everything passed
+     */
+    private static int runShard(String[] classesDirs) throws IOException {
+        List<Class<?>> testClasses = findTestClasses(classesDirs);
+        TestNG testng = new TestNG();
+        testng.setTestClasses(testClasses.toArray(new Class[0]));
+        testng.setParallel(XmlSuite.ParallelMode.METHODS);
+        testng.setThreadCount(config.getThreadCount());
+        testng.setOutputDirectory(Paths.get(config.getProperty("test.shard.work.dir", "build/test-shards"),
+                "shard-" + config.getProperty("test.shard.index", "0")).toString());
+        for (String listener : LISTENERS) {
+            testng.addListener(newListener(listener));
+        }
+        testng.run();
+        return testng.getStatus();
+    }
+
+    /**
+     * Concrete classes with a TestNG {@code @Test} on the class or one of its methods, like Gradle's test detection
+     */
+    private static List<Class<?>> findTestClasses(String[] classesDirs) throws IOException {
+        List<Class<?>> testClasses = new ArrayList<>();
+        ClassLoader loader = ShardedTestRunner.class.getClassLoader();
+        for (String dir : classesDirs) {
+            Path root = Paths.get(dir);
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            List<String> classNames;
+            try (Stream<Path> files = Files.walk(root)) {
+                classNames = files
+                        .map(file -> root.relativize(file).toString())
+                        .filter(file -> file.endsWith(".class") && !file.contains("$"))
+                        .map(file -> file.substring(0, file.length() - ".class".length())
+                                .replace('/', '.').replace('\\', '.'))
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+            for (String className : classNames) {
+                try {
+                    Class<?> candidate = Class.forName(className, false, loader);
+                    if (isTestClass(candidate)) {
+                        testClasses.add(candidate);
+                    }
+                } catch (ClassNotFoundException | LinkageError e) {
+                    logger.debug("Skipping {}: {}", className, e.getMessage());
+                }
+            }
+        }
+        logger.info("Found {} test classes", testClasses.size());
+        return testClasses;
+    }
+
+    private static boolean isTestClass(Class<?> candidate) {
+        if (candidate.isInterface() || Modifier.isAbstract(candidate.getModifiers())) {
+            return false;
+        }
+        if (candidate.isAnnotationPresent(Test.class)) {
+            return true;
+        }
+        for (Method method : candidate.getMethods()) {
+            if (method.isAnnotationPresent(Test.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ITestNGListener newListener(String className) {
+        try {
+            Constructor<?> constructor = Class.forName(className).getDeclaredConstructor();
+            // TestNG instantiates listeners regardless of the constructor's visibility
+            constructor.setAccessible(true);
+            return (ITestNGListener) constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create listener " + className, e);
+        }
+    }
+}
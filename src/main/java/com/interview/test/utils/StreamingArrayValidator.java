@@ -0,0 +1,267 @@
+package com.interview.test.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates a JSON object whose large part is one array property (e.g. players of /player/get/all) while the
+ * tokens are read, without building a tree. Supports the subset of JSON schema used by our schemas:
+ * type, minimum, required and additionalProperties: false on the root object and on the array items.
+ * Memory use does not depend on the array length; validation stops after maxViolations violations.
+ */
+public class StreamingArrayValidator {
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String arrayProperty;
+    private final ObjectRules rootRules;
+    private final ObjectRules itemRules;
+    private final int maxViolations;
+
+    private StreamingArrayValidator(String arrayProperty, ObjectRules rootRules, ObjectRules itemRules,
+                                    int maxViolations) {
+        this.arrayProperty = arrayProperty;
+        this.rootRules = rootRules;
+        this.itemRules = itemRules;
+        this.maxViolations = maxViolations;
+    }
+
+    /**
+     * Builds the validator from a classpath schema whose root object has an array property with an object item schema
+     */
+    public static StreamingArrayValidator fromSchema(String schemaPath, String arrayProperty, int maxViolations) {
+        JsonNode schema;
+        try (InputStream input = StreamingArrayValidator.class.getClassLoader().getResourceAsStream(schemaPath)) {
+            if (input == null) {
+                throw new IllegalArgumentException("Schema not found on classpath: " + schemaPath);
+            }
+            schema = objectMapper.readTree(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read schema " + schemaPath, e);
+        }
+        JsonNode items = schema.path("properties").path(arrayProperty).path("items");
+        if (!items.isObject()) {
+            throw new IllegalArgumentException(schemaPath + " has no item schema for array property " + arrayProperty);
+        }
+        return new StreamingArrayValidator(arrayProperty, ObjectRules.from(schema), ObjectRules.from(items),
+                maxViolations);
+    }
+
+    /**
+     * @return the first violations as "JSON pointer: message", empty when the document is valid
+     */
+    public List<String> validate(InputStream json) {
+        Violations violations = new Violations(maxViolations);
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            validateRoot(parser, violations);
+        } catch (ViolationLimitReached e) {
+            // the first maxViolations are enough
+        } catch (IOException e) {
+            violations.add("", "malformed JSON: " + e.getMessage());
+        }
+        return violations.list;
+    }
+
+    private void validateRoot(JsonParser parser, Violations violations) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            violations.add("", "expected object");
+            return;
+        }
+        BitSet seen = new BitSet(rootRules.required.size());
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            String pointer = "/" + escape(name);
+            rootRules.markSeen(name, seen);
+            if (name.equals(arrayProperty)) {
+                if (value == JsonToken.START_ARRAY) {
+                    validateItems(parser, pointer, violations);
+                } else {
+                    violations.add(pointer, "expected array but found " + describe(value));
+                    parser.skipChildren();
+                }
+            } else {
+                validateValue(rootRules, name, parser, value, pointer, violations);
+            }
+        }
+        rootRules.reportMissing(seen, "", violations);
+    }
+
+    private void validateItems(JsonParser parser, String arrayPointer, Violations violations) throws IOException {
+        BitSet seen = new BitSet(itemRules.required.size());
+        int index = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            String itemPointer = arrayPointer + "/" + index++;
+            if (token != JsonToken.START_OBJECT) {
+                violations.add(itemPointer, "expected object but found " + describe(token));
+                parser.skipChildren();
+                continue;
+            }
+            seen.clear();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                itemRules.markSeen(name, seen);
+                validateValue(itemRules, name, parser, value, itemPointer + "/" + escape(name), violations);
+            }
+            itemRules.reportMissing(seen, itemPointer, violations);
+        }
+    }
+
+    private static void validateValue(ObjectRules rules, String name, JsonParser parser, JsonToken value,
+                                      String pointer, Violations violations) throws IOException {
+        PropertyRule rule = rules.properties.get(name);
+        if (rule == null) {
+            if (!rules.additionalProperties) {
+                violations.add(pointer, "additional property not allowed");
+            }
+        } else {
+            rule.check(parser, value, pointer, violations);
+        }
+        parser.skipChildren();
+    }
+
+    private static String describe(JsonToken token) {
+        if (token == null) {
+            return "end of input";
+        }
+        return switch (token) {
+            case START_OBJECT -> "object";
+            case START_ARRAY -> "array";
+            case VALUE_STRING -> "string";
+            case VALUE_NUMBER_INT -> "integer";
+            case VALUE_NUMBER_FLOAT -> "number";
+            case VALUE_TRUE, VALUE_FALSE -> "boolean";
+            case VALUE_NULL -> "null";
+            default -> token.name();
+        };
+    }
+
+    private static String escape(String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Rules of one object schema
+     */
+    private static class ObjectRules {
+        private final Map<String, PropertyRule> properties = new LinkedHashMap<>();
+        private final List<String> required = new ArrayList<>();
+        private final boolean additionalProperties;
+
+        private ObjectRules(boolean additionalProperties) {
+            this.additionalProperties = additionalProperties;
+        }
+
+        static ObjectRules from(JsonNode schema) {
+            ObjectRules rules = new ObjectRules(schema.path("additionalProperties").asBoolean(true));
+            schema.path("properties").fields()
+                    .forEachRemaining(entry -> rules.properties.put(entry.getKey(), PropertyRule.from(entry.getValue())));
+            schema.path("required").forEach(name -> rules.required.add(name.asText()));
+            return rules;
+        }
+
+        void markSeen(String name, BitSet seen) {
+            int index = required.indexOf(name);
+            if (index >= 0) {
+                seen.set(index);
+            }
+        }
+
+        void reportMissing(BitSet seen, String pointer, Violations violations) {
+            for (int i = seen.nextClearBit(0); i < required.size(); i = seen.nextClearBit(i + 1)) {
+                violations.add(pointer, "missing required property '" + required.get(i) + "'");
+            }
+        }
+    }
+
+    /**
+     * type and minimum of one property
+     */
+    private static class PropertyRule {
+        private final Set<String> types;
+        private final JsonNode minimum;
+
+        private PropertyRule(Set<String> types, JsonNode minimum) {
+            this.types = types;
+            this.minimum = minimum;
+        }
+
+        static PropertyRule from(JsonNode schema) {
+            Set<String> types = new HashSet<>();
+            JsonNode type = schema.path("type");
+            if (type.isArray()) {
+                type.forEach(value -> types.add(value.asText()));
+            } else if (type.isTextual()) {
+                types.add(type.asText());
+            }
+            JsonNode minimum = schema.get("minimum");
+            return new PropertyRule(types.isEmpty() ? Collections.emptySet() : types, minimum);
+        }
+
+        void check(JsonParser parser, JsonToken value, String pointer, Violations violations) throws IOException {
+            if (!types.isEmpty() && !matchesType(value)) {
+                violations.add(pointer, "expected " + String.join(" or ", types) + " but found " + describe(value));
+                return;
+            }
+            if (minimum != null && value.isNumeric() && parser.getDoubleValue() < minimum.asDouble()) {
+                violations.add(pointer, "value " + parser.getText() + " is lower than minimum " + minimum);
+            }
+        }
+
+        private boolean matchesType(JsonToken value) {
+            return switch (value) {
+                case VALUE_NUMBER_INT -> types.contains("integer") || types.contains("number");
+                case VALUE_NUMBER_FLOAT -> types.contains("number");
+                case VALUE_STRING -> types.contains("string");
+                case VALUE_TRUE, VALUE_FALSE -> types.contains("boolean");
+                case VALUE_NULL -> types.contains("null");
+                case START_OBJECT -> types.contains("object");
+                case START_ARRAY -> types.contains("array");
+                default -> false;
+            };
+        }
+    }
+
+    /**
+     * Bounded violation list, aborts parsing when full
+     */
+    private static class Violations {
+        private final List<String> list = new ArrayList<>();
+        private final int max;
+
+        Violations(int max) {
+            this.max = max;
+        }
+
+        void add(String pointer, String message) {
+            list.add((pointer.isEmpty() ? "/" : pointer) + ": " + message);
+            if (list.size() >= max) {
+                throw new ViolationLimitReached();
+            }
+        }
+    }
+
+    private static class ViolationLimitReached extends RuntimeException {
+        ViolationLimitReached() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -3,12 +3,13 @@ package com.interview.test.utils;
 import com.interview.test.config.ConfigurationManager;
 import com.interview.test.models.PlayerUpdateRequest;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Random;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
 
 /**
  * Factory for generating test data with realistic and edge case scenarios
@@ -16,8 +17,11 @@ import java.util.concurrent.ThreadLocalRandom;
 public class TestDataFactory {
 
     public static final ConfigurationManager config = ConfigurationManager.getInstance();
-    private static final Random random = new Random();
-    private static final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    // Generators run millions of times during seeding, so config lookups are cached
+    private static final String LOGIN_PREFIX = config.getProperty("default.player.login.prefix", "test_user_");
+    private static final int LOGIN_MAX_LENGTH = Integer.parseInt(config.getProperty("validation.login.max.length", "50"));
+    private static final String DEFAULT_PASSWORD = config.getProperty("default.player.password", "testPassword123");
 
     // Valid test data arrays
     private static final String[] VALID_ROLES = {"supervisor", "admin"};
@@ -33,6 +37,7 @@ public class TestDataFactory {
     private static final String[] INVALID_LOGINS = {"", " ", "ab", "x", null};
     private static final String[] INVALID_PASSWORDS = {"", " ", "123", "abc", "12345", null};
     private static final String[] INVALID_SCREEN_NAMES = {"", " ", "x", null, "a"};
+    private static final int[] INVALID_AGES = {0, -1, -100, 151, 999, 10000};
 
     // Special characters for injection testing
     private static final String[] SQL_INJECTION_STRINGS = {
@@ -50,13 +55,11 @@ public class TestDataFactory {
     };
 
     /**
-     * Generates a unique login with timestamp
+     * Generates a login unique across threads and concurrently running JVMs, see {@link UniqueIdGenerator},
+     * in the calling worker's {@link TestNamespace}
      */
     public static String generateUniqueLogin() {
-        String prefix = config.getProperty("default.player.login.prefix", "test_user_");
-        String timestamp = LocalDateTime.now().format(timeFormatter);
-        int randomSuffix = ThreadLocalRandom.current().nextInt(1000, 9999);
-        return prefix + timestamp + "_" + randomSuffix;
+        return UniqueIdGenerator.next(LOGIN_PREFIX + TestNamespace.current(), LOGIN_MAX_LENGTH);
     }
 
     /**
@@ -65,7 +68,7 @@ public class TestDataFactory {
     public static PlayerData generateValidPlayerData() {
         return PlayerData.builder()
                 .login(generateUniqueLogin())
-                .password(config.getProperty("default.player.password", "testPassword123"))
+                .password(DEFAULT_PASSWORD)
                 .role(getRandomValidRole())
                 .age(generateValidAge())
                 .gender(getRandomValidGender())
@@ -105,7 +108,7 @@ public class TestDataFactory {
      * Generates SQL injection test data
      */
     public static PlayerData generateSqlInjectionData() {
-        String injectionString = SQL_INJECTION_STRINGS[random.nextInt(SQL_INJECTION_STRINGS.length)];
+        String injectionString = SQL_INJECTION_STRINGS[random().nextInt(SQL_INJECTION_STRINGS.length)];
         return PlayerData.builder()
                 .login(injectionString)
                 .password(injectionString)
@@ -120,10 +123,10 @@ public class TestDataFactory {
      * Generates XSS attack test data
      */
     public static PlayerData generateXssData() {
-        String xssString = XSS_STRINGS[random.nextInt(XSS_STRINGS.length)];
+        String xssString = XSS_STRINGS[random().nextInt(XSS_STRINGS.length)];
         return PlayerData.builder()
                 .login(generateUniqueLogin())
-                .password(config.getProperty("default.player.password", "testPassword123"))
+                .password(DEFAULT_PASSWORD)
                 .role(getRandomValidRole())
                 .age(generateValidAge())
                 .gender(getRandomValidGender())
@@ -135,56 +138,86 @@ public class TestDataFactory {
 
     // Helper methods for generating specific data types
 
+    private static SplittableRandom random() {
+        return TestRandom.current();
+    }
+
     public static String getRandomValidRole() {
-        return VALID_ROLES[random.nextInt(VALID_ROLES.length)];
+        return VALID_ROLES[random().nextInt(VALID_ROLES.length)];
     }
 
     public static String getRandomValidGender() {
-        return VALID_GENDERS[random.nextInt(VALID_GENDERS.length)];
+        return VALID_GENDERS[random().nextInt(VALID_GENDERS.length)];
     }
 
     private static String getRandomInvalidRole() {
-        return INVALID_ROLES[random.nextInt(INVALID_ROLES.length)];
+        return INVALID_ROLES[random().nextInt(INVALID_ROLES.length)];
     }
 
     private static String getRandomInvalidGender() {
-        return INVALID_GENDERS[random.nextInt(INVALID_GENDERS.length)];
+        return INVALID_GENDERS[random().nextInt(INVALID_GENDERS.length)];
     }
 
     private static String getRandomInvalidLogin() {
-        return INVALID_LOGINS[random.nextInt(INVALID_LOGINS.length)];
+        return INVALID_LOGINS[random().nextInt(INVALID_LOGINS.length)];
     }
 
     private static String getRandomInvalidPassword() {
-        return INVALID_PASSWORDS[random.nextInt(INVALID_PASSWORDS.length)];
+        return INVALID_PASSWORDS[random().nextInt(INVALID_PASSWORDS.length)];
     }
 
     private static String getRandomInvalidScreenName() {
-        return INVALID_SCREEN_NAMES[random.nextInt(INVALID_SCREEN_NAMES.length)];
+        return INVALID_SCREEN_NAMES[random().nextInt(INVALID_SCREEN_NAMES.length)];
     }
 
     public static Integer generateValidAge() {
-        return ThreadLocalRandom.current().nextInt(17, 60);
+        return random().nextInt(17, 60);
     }
 
     private static Integer generateBoundaryAge() {
         int[] boundaryAges = {1, 17, 18, 65, 99, 150};
-        return boundaryAges[random.nextInt(boundaryAges.length)];
+        return boundaryAges[random().nextInt(boundaryAges.length)];
     }
 
     private static Integer generateInvalidAge() {
-        int[] invalidAges = {0, -1, -100, 151, 999, 10000};
-        return invalidAges[random.nextInt(invalidAges.length)];
+        return INVALID_AGES[random().nextInt(INVALID_AGES.length)];
+    }
+
+    /**
+     * Invalid values of every create request field, including empty and null for the mandatory fields, for
+     * combinatorial negative tests. A null password is left out because the password is optional.
+     */
+    public static Map<String, List<Object>> getInvalidFieldValues() {
+        Map<String, List<Object>> values = new LinkedHashMap<>();
+        values.put("login", new ArrayList<>(Arrays.asList(INVALID_LOGINS)));
+        List<Object> passwords = new ArrayList<>(Arrays.asList(INVALID_PASSWORDS));
+        passwords.removeIf(Objects::isNull);
+        values.put("password", passwords);
+        values.put("role", withEmptyAndNull(INVALID_ROLES));
+        List<Object> ages = new ArrayList<>();
+        ages.add(null);
+        Arrays.stream(INVALID_AGES).forEach(ages::add);
+        values.put("age", ages);
+        values.put("gender", withEmptyAndNull(INVALID_GENDERS));
+        values.put("screenName", new ArrayList<>(Arrays.asList(INVALID_SCREEN_NAMES)));
+        return values;
+    }
+
+    private static List<Object> withEmptyAndNull(String[] invalidValues) {
+        List<Object> values = new ArrayList<>(Arrays.asList("", null));
+        values.addAll(Arrays.asList(invalidValues));
+        return values;
     }
 
     public static String generateValidScreenName() {
-        return VALID_SCREEN_NAMES[random.nextInt(VALID_SCREEN_NAMES.length)] +
-                ThreadLocalRandom.current().nextInt(1, 999);
+        SplittableRandom random = random();
+        return TestNamespace.current() + VALID_SCREEN_NAMES[random.nextInt(VALID_SCREEN_NAMES.length)]
+                + random.nextInt(1, 999);
     }
 
     private static String generateBoundaryLogin() {
         // Test minimum and maximum length boundaries
-        if (random.nextBoolean()) {
+        if (random().nextBoolean()) {
             return "abc"; // minimum length
         } else {
             return "a".repeat(50); // maximum length
@@ -198,7 +231,7 @@ public class TestDataFactory {
 
     private static String generateBoundaryScreenName() {
         // Test minimum and maximum length boundaries
-        if (random.nextBoolean()) {
+        if (random().nextBoolean()) {
             return "ab"; // minimum length
         } else {
             return "a".repeat(30); // maximum length
@@ -285,10 +318,11 @@ public class TestDataFactory {
      * Generates test data for stress testing
      */
     public static List<PlayerData> generateBulkPlayerData(int count) {
-        return ThreadLocalRandom.current()
-                .ints(count)
-                .mapToObj(i -> generateValidPlayerData())
-                .toList();
+        List<PlayerData> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(generateValidPlayerData());
+        }
+        return players;
     }
 
     /**
@@ -0,0 +1,122 @@
+package com.interview.test.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Per-test durations of previous runs, used to balance test shards. The file holds one
+ * "qualified.method.name=millis" line per test method (all invocations of a run added up); each run's measurement
+ * is averaged with the stored value so a single slow run does not reshuffle the shards.
+ */
+public final class TestDurationHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestDurationHistory.class);
+    private static final String HEADER = "# Test method durations in ms, smoothed over previous runs\n";
+    // weight of the latest run against the stored history
+    private static final double SMOOTHING = 0.5;
+
+    private TestDurationHistory() {}
+
+    /**
+     * Durations stored in file, empty when it does not exist or cannot be read
+     */
+    public static Map<String, Long> load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return new TreeMap<>();
+        }
+        try {
+            return parse(Files.readString(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warn("Failed to read test durations from {}: {}", file, e.getMessage());
+            return new TreeMap<>();
+        }
+    }
+
+    /**
+     * Writes durations as they are, replacing file
+     */
+    public static void write(Path file, Map<String, Long> durations) {
+        try {
+            createParent(file);
+            Files.writeString(file, format(durations), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write test durations to " + file, e);
+        }
+    }
+
+    /**
+     * Averages the latest durations into the history file, under a file lock so concurrent runs do not lose
+     * each other's updates. Tests missing from latest keep their stored duration.
+     */
+    public static void merge(Path history, Map<String, Long> latest) {
+        if (latest.isEmpty()) {
+            return;
+        }
+        try {
+            createParent(history);
+            try (FileChannel channel = FileChannel.open(history, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                channel.lock();
+                ByteBuffer content = ByteBuffer.allocate((int) channel.size());
+                while (content.hasRemaining() && channel.read(content) >= 0) {
+                    // read fully
+                }
+                Map<String, Long> durations = parse(new String(content.array(), 0, content.position(),
+                        StandardCharsets.UTF_8));
+                latest.forEach((test, millis) -> durations.merge(test, millis,
+                        (stored, measured) -> Math.round(stored * (1 - SMOOTHING) + measured * SMOOTHING)));
+
+                ByteBuffer updated = ByteBuffer.wrap(format(durations).getBytes(StandardCharsets.UTF_8));
+                channel.truncate(0);
+                long position = 0;
+                while (updated.hasRemaining()) {
+                    position += channel.write(updated, position);
+                }
+                channel.force(false);
+            }
+            logger.info("Updated {} test durations in {}", latest.size(), history);
+        } catch (IOException e) {
+            logger.warn("Failed to update test durations in {}: {}", history, e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> parse(String content) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader(content));
+        Map<String, Long> durations = new TreeMap<>();
+        for (String test : properties.stringPropertyNames()) {
+            try {
+                durations.put(test, Long.parseLong(properties.getProperty(test).trim()));
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring invalid duration of {}", test);
+            }
+        }
+        return durations;
+    }
+
+    private static String format(Map<String, Long> durations) {
+        StringBuilder content = new StringBuilder(HEADER);
+        new TreeMap<>(durations).forEach((test, millis) -> content.append(test).append('=').append(millis).append('\n'));
+        return content.toString();
+    }
+
+    private static void createParent(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.interview.test.utils;
+
+import com.interview.test.config.ConfigurationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Per-worker prefix of generated logins and screen names, so tests running in parallel threads or forks can tell
+ * their own players from everyone else's. The namespace is a 5 character id of this run (JVM) followed by "w" and
+ * the index of the worker thread, e.g. "k3f9aw2_". Workers are numbered in the order they first generate data.
+ * Disabled with test.namespace.enabled=false, in which case the namespace is empty.
+ */
+public final class TestNamespace {
+
+    private static final int RUN_ID_LENGTH = 5;
+
+    /**
+     * Regex of a namespace prefix, for matching generated screen names
+     */
+    public static final String PREFIX_REGEX = "[0-9a-z]{" + RUN_ID_LENGTH + "}w[0-9a-z]+_";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(
+            ConfigurationManager.getInstance().getProperty("test.namespace.enabled", "true"));
+    private static final String RUN_ID = runId(UniqueIdGenerator.processToken());
+    private static final Pattern ANY_NAMESPACE = Pattern.compile(PREFIX_REGEX + ".*");
+
+    private static final AtomicInteger nextWorker = new AtomicInteger();
+    private static final ThreadLocal<String> current = ThreadLocal.withInitial(
+            () -> ENABLED ? RUN_ID + "w" + Integer.toString(nextWorker.getAndIncrement(), 36) + "_" : "");
+
+    private TestNamespace() {}
+
+    /**
+     * Namespace prefix of the calling worker thread, empty when namespacing is disabled
+     */
+    public static String current() {
+        return current.get();
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static String getRunId() {
+        return RUN_ID;
+    }
+
+    /**
+     * Whether the value was generated in the calling worker's namespace
+     */
+    public static boolean isOwn(String value) {
+        return ENABLED && value != null && value.startsWith(current());
+    }
+
+    /**
+     * Whether the value belongs to another worker's or another run's namespace. Players in a foreign namespace
+     * may be changed or deleted at any time by the tests that own them.
+     */
+    public static boolean isForeign(String value) {
+        return ENABLED && value != null && !value.startsWith(current()) && ANY_NAMESPACE.matcher(value).matches();
+    }
+
+    private static String runId(String processToken) {
+        long space = 1;
+        for (int i = 0; i < RUN_ID_LENGTH; i++) {
+            space *= 36;
+        }
+        long hash = 1125899906842597L;
+        for (int i = 0; i < processToken.length(); i++) {
+            hash = 31 * hash + processToken.charAt(i);
+        }
+        StringBuilder id = new StringBuilder(Long.toString(Math.floorMod(hash, space), 36));
+        while (id.length() < RUN_ID_LENGTH) {
+            id.insert(0, '0');
+        }
+        return id.toString();
+    }
+}
@@ -0,0 +1,72 @@
+package com.interview.test.utils;
+
+import com.interview.test.config.ConfigurationManager;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded random streams for test data. TestExecutionListener gives every test method invocation its own stream,
+ * seeded from test.data.seed, the method's qualified name and its data provider parameter index, and the fixture
+ * pool does the same per fixture index; the data of a test or fixture therefore does not depend on which thread
+ * runs it or in what order. Threads that are not reseeded (configuration methods, ad hoc threads) get a stream split
+ * from one root generator in first-use order, which is only reproducible in sequential runs. Re-running with the
+ * same test.data.seed generates the same data (unique logins and namespaces excepted).
+ */
+public final class TestRandom {
+
+    private static final long SEED = resolveSeed();
+    private static final SplittableRandom root = new SplittableRandom(SEED);
+    private static final ThreadLocal<SplittableRandom> streams = ThreadLocal.withInitial(TestRandom::split);
+
+    private TestRandom() {}
+
+    /**
+     * Seed of this run; pass it as test.data.seed to reproduce the run
+     */
+    public static long getSeed() {
+        return SEED;
+    }
+
+    /**
+     * The calling thread's stream
+     */
+    public static SplittableRandom current() {
+        return streams.get();
+    }
+
+    /**
+     * Replaces the calling thread's stream with the one of the named unit of work, e.g. a test method invocation
+     *
+     * @param name  stable name, such as the qualified test method name
+     * @param index index among the units of that name, such as the parameter index
+     */
+    public static void reseed(String name, int index) {
+        streams.set(new SplittableRandom(SEED ^ hash(name, index)));
+    }
+
+    /**
+     * 64-bit hash that, unlike String.hashCode(), spreads similar names over the whole seed space
+     */
+    private static long hash(String name, int index) {
+        long hash = 1125899906842597L;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + name.charAt(i);
+        }
+        hash = 31 * hash + index;
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static SplittableRandom split() {
+        synchronized (root) {
+            return root.split();
+        }
+    }
+
+    private static long resolveSeed() {
+        String seed = ConfigurationManager.getInstance().getProperty("test.data.seed", "");
+        return seed.isBlank() ? new SecureRandom().nextLong() : Long.parseLong(seed.trim());
+    }
+}
@@ -0,0 +1,53 @@
+package com.interview.test.utils;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Identifiers unique across threads and across JVMs running at the same time on one host:
+ * prefix + JVM start time + process id + sequence, all base36. Threads reserve blocks of the sequence from one
+ * atomic counter and count within their block, so the counter is touched once per BLOCK_SIZE ids.
+ */
+public final class UniqueIdGenerator {
+
+    private static final int BLOCK_SIZE = 1024;
+    private static final String PROCESS_TOKEN = Long.toString(ManagementFactory.getRuntimeMXBean().getStartTime(), 36)
+            + "_" + Long.toString(ProcessHandle.current().pid(), 36);
+    private static final AtomicLong nextBlock = new AtomicLong();
+    private static final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+    private UniqueIdGenerator() {}
+
+    /**
+     * Identifies this JVM among all runs on the host, e.g. to tag or find the data it created
+     */
+    public static String processToken() {
+        return PROCESS_TOKEN;
+    }
+
+    /**
+     * @return prefix + process token + "_" + sequence
+     * @throws IllegalStateException when the id would be longer than maxLength
+     */
+    public static String next(String prefix, int maxLength) {
+        String id = prefix + PROCESS_TOKEN + "_" + Long.toString(blocks.get().next(), 36);
+        if (id.length() > maxLength) {
+            throw new IllegalStateException("Unique id " + id + " is longer than " + maxLength
+                    + " characters, shorten the prefix '" + prefix + "'");
+        }
+        return id;
+    }
+
+    private static final class Block {
+        private long next;
+        private long end;
+
+        long next() {
+            if (next == end) {
+                next = nextBlock.getAndIncrement() * BLOCK_SIZE;
+                end = next + BLOCK_SIZE;
+            }
+            return next++;
+        }
+    }
+}
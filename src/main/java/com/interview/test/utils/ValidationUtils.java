@@ -4,6 +4,8 @@ import com.interview.test.config.ConfigurationManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -22,6 +24,19 @@ public class ValidationUtils {
     private static final Pattern LOGIN_PATTERN = Pattern.compile("^[a-zA-Z0-9_-]{3,50}$");
     private static final Pattern SCREEN_NAME_PATTERN = Pattern.compile("^[a-zA-Z0-9_\\s-]{2,30}$");
 
+    // Limits are read once, these checks run per item when validating large player lists
+    private static final int LOGIN_MIN_LENGTH = intProperty("validation.login.min.length", "3");
+    private static final int LOGIN_MAX_LENGTH = intProperty("validation.login.max.length", "50");
+    private static final int PASSWORD_MIN_LENGTH = intProperty("validation.password.min.length", "6");
+    private static final int AGE_MIN = intProperty("validation.age.min", "1");
+    private static final int AGE_MAX = intProperty("validation.age.max", "150");
+    private static final int SCREEN_NAME_MIN_LENGTH = intProperty("validation.screenname.min.length", "2");
+    private static final int SCREEN_NAME_MAX_LENGTH = intProperty("validation.screenname.max.length", "30");
+    private static final Set<String> VALID_ROLES =
+            Set.copyOf(Arrays.asList(config.getProperty("roles.valid", "supervisor,admin,user,moderator").split(",")));
+    private static final Set<String> VALID_GENDERS =
+            Set.copyOf(Arrays.asList(config.getProperty("genders.valid", "MALE,FEMALE,OTHER").split(",")));
+
     /**
      * Validates login format
      */
@@ -30,11 +45,8 @@ public class ValidationUtils {
             return false;
         }
 
-        int minLength = Integer.parseInt(config.getProperty("validation.login.min.length", "3"));
-        int maxLength = Integer.parseInt(config.getProperty("validation.login.max.length", "50"));
-
-        return login.length() >= minLength &&
-                login.length() <= maxLength &&
+        return login.length() >= LOGIN_MIN_LENGTH &&
+                login.length() <= LOGIN_MAX_LENGTH &&
                 LOGIN_PATTERN.matcher(login).matches();
     }
 
@@ -46,8 +58,7 @@ public class ValidationUtils {
             return false;
         }
 
-        int minLength = Integer.parseInt(config.getProperty("validation.password.min.length", "6"));
-        return password.length() >= minLength;
+        return password.length() >= PASSWORD_MIN_LENGTH;
     }
 
     /**
@@ -58,10 +69,7 @@ public class ValidationUtils {
             return false;
         }
 
-        int minAge = Integer.parseInt(config.getProperty("validation.age.min", "1"));
-        int maxAge = Integer.parseInt(config.getProperty("validation.age.max", "150"));
-
-        return age >= minAge && age <= maxAge;
+        return age >= AGE_MIN && age <= AGE_MAX;
     }
 
     /**
@@ -72,11 +80,8 @@ public class ValidationUtils {
             return false;
         }
 
-        int minLength = Integer.parseInt(config.getProperty("validation.screenname.min.length", "2"));
-        int maxLength = Integer.parseInt(config.getProperty("validation.screenname.max.length", "30"));
-
-        return screenName.length() >= minLength &&
-                screenName.length() <= maxLength &&
+        return screenName.length() >= SCREEN_NAME_MIN_LENGTH &&
+                screenName.length() <= SCREEN_NAME_MAX_LENGTH &&
                 SCREEN_NAME_PATTERN.matcher(screenName).matches();
     }
 
@@ -88,8 +93,7 @@ public class ValidationUtils {
             return false;
         }
 
-        String validRoles = config.getProperty("roles.valid", "supervisor,admin,user,moderator");
-        return java.util.Arrays.asList(validRoles.split(",")).contains(role);
+        return VALID_ROLES.contains(role);
     }
 
     /**
@@ -100,7 +104,10 @@ public class ValidationUtils {
             return false;
         }
 
-        String validGenders = config.getProperty("genders.valid", "MALE,FEMALE,OTHER");
-        return java.util.Arrays.asList(validGenders.split(",")).contains(gender);
+        return VALID_GENDERS.contains(gender);
+    }
+
+    private static int intProperty(String key, String defaultValue) {
+        return Integer.parseInt(config.getProperty(key, defaultValue));
     }
 }
\ No newline at end of file
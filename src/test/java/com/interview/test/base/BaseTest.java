@@ -2,17 +2,25 @@ package com.interview.test.base;
 
 import com.interview.test.api.PlayerApiClient;
 import com.interview.test.config.ConfigurationManager;
+import com.interview.test.fixtures.PlayerFixturePool;
 import com.interview.test.models.*;
+import com.interview.test.utils.CleanupJournal;
+import com.interview.test.utils.CleanupRegistry;
+import com.interview.test.utils.HealthProbe;
+import com.interview.test.utils.OrphanSweeper;
 import com.interview.test.utils.TestDataFactory;
+import com.interview.test.utils.TestRandom;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.SkipException;
 import org.testng.annotations.*;
 import org.testng.asserts.SoftAssert;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 
 import static org.testng.Assert.*;
 
@@ -23,27 +31,27 @@ public abstract class BaseTest {
 
     protected static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
     protected static final ConfigurationManager config = ConfigurationManager.getInstance();
+    protected static final PlayerFixturePool fixtures = PlayerFixturePool.getInstance();
+    protected static final CleanupRegistry cleanupRegistry = CleanupRegistry.getInstance();
+    protected static final HealthProbe health = HealthProbe.getInstance();
 
     protected PlayerApiClient playerApi;
     protected SoftAssert softAssert;
 
-    // Test data cleanup tracking
-    protected List<Long> createdPlayerIds = new ArrayList<>();
-
     // Common test data
     protected String supervisorEditor;
     protected String adminEditor;
     protected String invalidEditor;
 
-    private final String[] VALID_SCREEN_NAMES = {
-            "TestPlayer", "GameMaster", "ProGamer", "CoolUser", "PlayerOne",
-            "Champion", "Warrior", "Mage", "Archer", "Knight"
-    };
-
     @BeforeSuite(alwaysRun = true)
     public void setUpSuite() {
         logger.info("Setting up test suite...");
         config.logConfiguration();
+        logger.info("Test data seed: {} (re-run with -Ptest.data.seed={} to reproduce)",
+                TestRandom.getSeed(), TestRandom.getSeed());
+        checkApiHealth();
+        openCleanupJournal();
+        fixtures.start();
     }
 
     @BeforeClass(alwaysRun = true)
@@ -62,6 +70,15 @@ public abstract class BaseTest {
                 supervisorEditor, adminEditor, invalidEditor);
     }
 
+    /**
+     * Skips the remaining tests once the background health probe finds the API down
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void skipWhenApiDown() {
+        if (health.isDown()) {
+            throw new SkipException(health.getDownReason());
+        }
+    }
 
     @AfterMethod(alwaysRun = true)
     public void tearDownMethod() {
@@ -76,8 +93,14 @@ public abstract class BaseTest {
 
     @AfterSuite(alwaysRun = true)
     public void tearDownSuite() {
+        health.stopMonitor();
         // Clean up created test data
         cleanUpCreatedPlayers();
+        fixtures.shutdown();
+        CleanupJournal journal = cleanupRegistry.detachJournal();
+        if (journal != null) {
+            journal.close();
+        }
         logger.info("Test suite teardown completed");
     }
 
@@ -111,7 +134,7 @@ public abstract class BaseTest {
             try {
                 PlayerCreateResponse createResponse = response.as(PlayerCreateResponse.class);
                 if (createResponse.getId() != null) {
-                    createdPlayerIds.add(createResponse.getId());
+                    cleanupRegistry.register(createResponse.getId());
                     logger.debug("Tracking player ID {} for cleanup", createResponse.getId());
                 }
             } catch (Exception e) {
@@ -127,14 +150,61 @@ public abstract class BaseTest {
      */
     @Step("Clean up created test players")
     protected void cleanUpCreatedPlayers() {
-        // Commented possibility to clean up created players without stored list, based on some specific fields value
-//        List<PlayerItem> playerList = new PlayerGetAllService().getPlayerList();
-//        playerList.forEach(item -> {
-//            if (Arrays.stream(VALID_SCREEN_NAMES).filter(item.getScreenName()::contains).count() == 1)
-//                playerApi.deletePlayer(config.getValidEditor(), item.getId());
-//        });
-        if (!createdPlayerIds.isEmpty())
-            createdPlayerIds.forEach(item -> playerApi.deletePlayer(config.getSupervisorEditor(), item));
+        long[] batch = new long[Integer.parseInt(config.getProperty("test.cleanup.batch.size", "100"))];
+        int count;
+        while ((count = cleanupRegistry.drain(batch)) > 0) {
+            Arrays.stream(batch, 0, count).parallel().forEach(id -> {
+                int status = playerApi.deletePlayer(config.getSupervisorEditor(), id).getStatusCode();
+                if (status == 200 || status == 204 || status == 404) {
+                    cleanupRegistry.recordDeleted(id);
+                }
+            });
+        }
+
+        // Players left by runs without a journal, matched by their login and screen name markers
+        if (Boolean.parseBoolean(config.getProperty("test.sweeper.enabled", "false")) && !health.isDown()) {
+            OrphanSweeper.fromConfig().sweep();
+        }
+    }
+
+    /**
+     * Skips the whole suite within seconds when the API does not answer, instead of every test running into
+     * api.request.timeout; then keeps probing in the background
+     */
+    @Step("Check that the API is reachable")
+    private void checkApiHealth() {
+        if (!HealthProbe.isEnabled()) {
+            return;
+        }
+        String failure = health.checkReachable();
+        if (failure != null) {
+            logger.error("{}, skipping the test suite", failure);
+            throw new SkipException(failure);
+        }
+        health.startMonitor();
+    }
+
+    /**
+     * Deletes the players left by runs killed before their teardown, then journals this run's players
+     */
+    @Step("Recover players left by previous runs")
+    private void openCleanupJournal() {
+        if (!Boolean.parseBoolean(config.getProperty("test.cleanup.journal.enabled", "true"))) {
+            return;
+        }
+        Path directory = Paths.get(config.getProperty("test.cleanup.journal.dir", ".test-cleanup"));
+        PlayerApiClient recoveryApi = new PlayerApiClient();
+        int recovered = CleanupJournal.recover(directory, id -> {
+            int status = recoveryApi.deletePlayer(config.getSupervisorEditor(), id).getStatusCode();
+            return status == 200 || status == 204 || status == 404;
+        }, Integer.parseInt(config.getProperty("test.cleanup.recovery.concurrency", "8")));
+        if (recovered > 0) {
+            logger.info("Deleted {} players left by previous runs", recovered);
+        }
+        CleanupJournal journal = CleanupJournal.open(directory,
+                Integer.parseInt(config.getProperty("test.cleanup.journal.initial.records", "65536")));
+        cleanupRegistry.attachJournal(journal);
+        logger.info("Journaling created players to {}", journal.getFile());
     }
 
     // Common assertion methods
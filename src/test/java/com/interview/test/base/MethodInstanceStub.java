@@ -0,0 +1,115 @@
+package com.interview.test.base;
+
+import org.testng.IMethodInstance;
+import org.testng.ITestNGMethod;
+import org.testng.internal.ConstructorOrMethod;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minimal TestNG method instance for testing method interceptors without running TestNG. The Java method is the
+ * public no-argument method of the given name on the test class, so its annotations are visible to the
+ * interceptor; names without such a method get an unannotated placeholder.
+ */
+public final class MethodInstanceStub {
+
+    private static final Method PLACEHOLDER;
+
+    static {
+        try {
+            PLACEHOLDER = MethodInstanceStub.class.getDeclaredMethod("placeholder");
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<?> testClass;
+    private final String name;
+    private String[] groups = new String[0];
+    private String[] dependsOnMethods = new String[0];
+    private String[] dependsOnGroups = new String[0];
+    private Map<String, Integer> priorities = new HashMap<>();
+
+    private MethodInstanceStub(Class<?> testClass, String name) {
+        this.testClass = testClass;
+        this.name = name;
+    }
+
+    public static MethodInstanceStub of(Class<?> testClass, String name) {
+        return new MethodInstanceStub(testClass, name);
+    }
+
+    public static String qualified(Class<?> testClass, String name) {
+        return testClass.getName() + "." + name;
+    }
+
+    public MethodInstanceStub groups(String... groups) {
+        this.groups = groups;
+        return this;
+    }
+
+    /**
+     * @param methods qualified names of the methods this one depends on
+     */
+    public MethodInstanceStub dependsOnMethods(String... methods) {
+        this.dependsOnMethods = methods;
+        return this;
+    }
+
+    public MethodInstanceStub dependsOnGroups(String... groups) {
+        this.dependsOnGroups = groups;
+        return this;
+    }
+
+    /**
+     * Priority of the method, kept in the given map by method name so a test can see what the interceptor set
+     */
+    public MethodInstanceStub priority(int priority, Map<String, Integer> priorities) {
+        priorities.put(name, priority);
+        this.priorities = priorities;
+        return this;
+    }
+
+    public IMethodInstance build() {
+        Method javaMethod = javaMethod();
+        Map<String, Integer> priorities = this.priorities;
+        ITestNGMethod method = (ITestNGMethod) Proxy.newProxyInstance(ITestNGMethod.class.getClassLoader(),
+                new Class<?>[]{ITestNGMethod.class}, (proxy, invoked, args) -> switch (invoked.getName()) {
+                    case "getMethodName" -> name;
+                    case "getQualifiedName" -> qualified(testClass, name);
+                    case "getRealClass" -> testClass;
+                    case "getGroups" -> groups;
+                    case "getMethodsDependedUpon" -> dependsOnMethods;
+                    case "getGroupsDependedUpon" -> dependsOnGroups;
+                    case "getPriority" -> priorities.getOrDefault(name, 0);
+                    case "setPriority" -> priorities.put(name, (Integer) args[0]);
+                    case "getConstructorOrMethod" -> new ConstructorOrMethod(javaMethod);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> name;
+                    default -> null;
+                });
+        return (IMethodInstance) Proxy.newProxyInstance(IMethodInstance.class.getClassLoader(),
+                new Class<?>[]{IMethodInstance.class}, (proxy, invoked, args) -> switch (invoked.getName()) {
+                    case "getMethod" -> method;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> name;
+                    default -> null;
+                });
+    }
+
+    private Method javaMethod() {
+        try {
+            return testClass.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return PLACEHOLDER;
+        }
+    }
+
+    private static void placeholder() {
+    }
+}
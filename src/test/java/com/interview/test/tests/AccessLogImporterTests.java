@@ -0,0 +1,71 @@
+package com.interview.test.tests;
+
+import com.interview.test.perf.AccessLogImporter;
+import com.interview.test.perf.CapturedRequest;
+import com.interview.test.perf.PlayerOperation;
+import com.interview.test.perf.TrafficCaptureFile;
+import com.interview.test.utils.ValidationUtils;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * An imported capture creates its own seed players during replay, so they must be players the server accepts.
+ */
+@Epic("Player Management API")
+@Feature("Traffic Replay")
+public class AccessLogImporterTests {
+
+    @Test(groups = {"regression", "perf"})
+    @Story("Access Log Import")
+    @Description("Verify the seed players of an imported access log have valid fields and precede the log's requests")
+    @Severity(SeverityLevel.NORMAL)
+    public void testSeedPlayersAreValid() throws Exception {
+        Path directory = Files.createTempDirectory("access-log-import");
+        Path log = directory.resolve("access.log");
+        Path capture = directory.resolve("access.log.tcap");
+        Files.writeString(log, String.join("\n",
+                "10.0.0.1 - - [01/Jan/2025:12:00:00 +0000] \"GET /player/get/all HTTP/1.1\" 200 512 0.012",
+                "10.0.0.1 - - [01/Jan/2025:12:00:01 +0000] \"POST /player/get HTTP/1.1\" 200 128 0.004",
+                "10.0.0.2 - - [01/Jan/2025:12:00:02 +0000] \"GET /health HTTP/1.1\" 200 2 0.001"),
+                StandardCharsets.ISO_8859_1);
+
+        int seedPlayers = 5;
+        new AccessLogImporter(seedPlayers, 1_000_000, 1_000_000).importLog(log, capture);
+
+        List<CapturedRequest> requests = new ArrayList<>();
+        try (TrafficCaptureFile.Reader reader = TrafficCaptureFile.openReader(capture)) {
+            CapturedRequest request;
+            while ((request = reader.next()) != null) {
+                requests.add(request);
+            }
+        }
+        assertEquals(requests.size(), seedPlayers + 2, "Seed players plus the two Player API lines");
+
+        for (CapturedRequest seed : requests.subList(0, seedPlayers)) {
+            assertEquals(seed.getOperation(), PlayerOperation.CREATE_PLAYER);
+            assertEquals(seed.getOffsetMicros(), 0L, "Seed players are created first");
+            assertTrue(ValidationUtils.isValidLogin(seed.getLogin()), "Login " + seed.getLogin());
+            assertTrue(ValidationUtils.isValidPassword(seed.getPassword()), "Password " + seed.getPassword());
+            assertTrue(ValidationUtils.isValidRole(seed.getRole()), "Role " + seed.getRole());
+            assertTrue(ValidationUtils.isValidAge(Integer.valueOf(seed.getAge())), "Age " + seed.getAge());
+            assertTrue(ValidationUtils.isValidGender(seed.getGender()), "Gender " + seed.getGender());
+            assertTrue(ValidationUtils.isValidScreenName(seed.getScreenName()), "Screen name " + seed.getScreenName());
+        }
+        assertEquals(requests.stream().limit(seedPlayers).map(CapturedRequest::getLogin).distinct().count(),
+                (long) seedPlayers, "Seed logins are unique");
+        assertEquals(requests.get(seedPlayers).getOperation(), PlayerOperation.GET_ALL_PLAYERS);
+        assertEquals(requests.get(seedPlayers + 1).getOperation(), PlayerOperation.GET_PLAYER_BY_ID);
+
+        Files.delete(capture);
+        Files.delete(log);
+        Files.delete(directory);
+    }
+}
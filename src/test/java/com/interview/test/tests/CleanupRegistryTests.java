@@ -0,0 +1,131 @@
+package com.interview.test.tests;
+
+import com.interview.test.utils.CleanupJournal;
+import com.interview.test.utils.CleanupRegistry;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * The cleanup registry is shared by all test threads and must not lose or duplicate ids under contention.
+ */
+@Epic("Player Management API")
+@Feature("Test Data Cleanup")
+public class CleanupRegistryTests {
+
+    @Test(groups = {"regression", "cleanup"})
+    @Story("Cleanup Registry")
+    @Description("Verify concurrent registration and removal leaves exactly the kept ids, drained once each")
+    @Severity(SeverityLevel.NORMAL)
+    public void testConcurrentRegisterRemoveAndDrain() throws Exception {
+        CleanupRegistry registry = new CleanupRegistry(16);
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                long base = (long) t * perThread;
+                futures[t] = executor.submit(() -> {
+                    for (long id = base + 1; id <= base + perThread; id++) {
+                        registry.register(id);
+                        if (id % 2 == 0) {
+                            assertTrue(registry.remove(id), "Registered id " + id + " not found for removal");
+                        }
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long expected = (long) threads * perThread / 2;
+        assertEquals(registry.size(), expected, "Tracked ids");
+        assertEquals(registry.getRemovedCount(), expected, "Removed ids");
+
+        Set<Long> drained = new HashSet<>();
+        long[] batch = new long[1000];
+        int count;
+        while ((count = registry.drain(batch)) > 0) {
+            for (int i = 0; i < count; i++) {
+                assertTrue(batch[i] % 2 == 1, "Removed id " + batch[i] + " was drained");
+                assertTrue(drained.add(batch[i]), "Id " + batch[i] + " drained twice");
+            }
+        }
+        assertEquals(drained.size(), expected, "Drained ids");
+        assertEquals(registry.size(), 0, "Ids left after draining");
+    }
+
+    @Test(groups = {"regression", "cleanup"})
+    @Story("Cleanup Registry")
+    @Description("Verify registering an id twice tracks it once and unknown ids are not removed")
+    @Severity(SeverityLevel.MINOR)
+    public void testDuplicateAndUnknownIds() {
+        CleanupRegistry registry = new CleanupRegistry(16);
+        for (long id = 1; id <= 100; id++) {
+            registry.register(id);
+            registry.register(id);
+        }
+        assertEquals(registry.getRegisteredCount(), 100, "Registered ids");
+        assertFalse(registry.remove(1000), "Unknown id removed");
+        assertTrue(registry.remove(50));
+        assertFalse(registry.remove(50), "Id removed twice");
+        assertFalse(registry.contains(50));
+        assertTrue(registry.contains(99));
+    }
+
+    @Test(groups = {"regression", "cleanup"}, expectedExceptions = IllegalArgumentException.class)
+    @Story("Cleanup Registry")
+    @Description("Verify non-positive ids are rejected")
+    @Severity(SeverityLevel.MINOR)
+    public void testNonPositiveIdRejected() {
+        new CleanupRegistry(16).register(0);
+    }
+
+    @Test(groups = {"regression", "cleanup"})
+    @Story("Cleanup Journal")
+    @Description("Verify players left in the journal of a finished run are recovered and the journal removed")
+    @Severity(SeverityLevel.NORMAL)
+    public void testJournalRecoversLeftoverPlayers() throws Exception {
+        Path directory = Files.createTempDirectory("cleanup-journal");
+        CleanupRegistry registry = new CleanupRegistry(16);
+        registry.attachJournal(CleanupJournal.open(directory, 16));
+        for (long id = 1; id <= 2000; id++) {
+            registry.register(id);
+        }
+        for (long id = 1; id <= 2000; id += 2) {
+            registry.remove(id);
+        }
+        long[] batch = new long[10];
+        int count = registry.drain(batch);
+        for (int i = 0; i < count; i++) {
+            registry.recordDeleted(batch[i]);
+        }
+        registry.detachJournal().close();
+
+        Set<Long> recovered = ConcurrentHashMap.newKeySet();
+        assertEquals(CleanupJournal.recover(directory, recovered::add, 4), 1000 - count, "Recovered players");
+        for (int i = 0; i < count; i++) {
+            assertFalse(recovered.contains(batch[i]), "Deleted player " + batch[i] + " recovered");
+        }
+        assertTrue(recovered.stream().allMatch(id -> id % 2 == 0), "Removed player recovered");
+        try (var files = Files.list(directory)) {
+            assertEquals(files.count(), 0L, "Journals left after recovery");
+        }
+        Files.delete(directory);
+    }
+}
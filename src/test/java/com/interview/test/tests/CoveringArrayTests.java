@@ -0,0 +1,96 @@
+package com.interview.test.tests;
+
+import com.interview.test.utils.CoveringArray;
+import io.qameta.allure.*;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+/**
+ * The covering array feeding the combinatorial negative tests must cover every t-tuple with far fewer rows
+ * than the exhaustive product.
+ */
+@Epic("Player Management API")
+@Feature("Combinatorial Test Data")
+public class CoveringArrayTests {
+
+    @DataProvider(name = "domains")
+    public Object[][] domains() {
+        return new Object[][]{
+                {2, new int[]{6, 6, 10, 8, 9, 6}},
+                {2, new int[]{20, 20, 20, 20, 20, 20}},
+                {3, new int[]{6, 6, 10, 8, 9, 6}},
+                {2, new int[]{1, 5, 1, 3}},
+                {1, new int[]{4, 7}}
+        };
+    }
+
+    @Test(groups = {"regression", "combinatorial"}, dataProvider = "domains")
+    @Story("Covering Array Generation")
+    @Description("Verify every combination of strength values is covered by the generated rows")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCoversEveryCombination(int strength, int[] domainSizes) {
+        List<int[]> rows = new ArrayList<>();
+        CoveringArray.of(strength, domainSizes).forEach(rows::add);
+
+        List<String> missing = new ArrayList<>();
+        forEachParameterSet(domainSizes.length, strength, new int[strength], 0, 0, parameters -> {
+            Set<List<Integer>> covered = new HashSet<>();
+            for (int[] row : rows) {
+                List<Integer> values = new ArrayList<>(strength);
+                for (int parameter : parameters) {
+                    values.add(row[parameter]);
+                }
+                covered.add(values);
+            }
+            long expected = 1;
+            for (int parameter : parameters) {
+                expected *= domainSizes[parameter];
+            }
+            if (covered.size() != expected) {
+                missing.add(Arrays.toString(parameters) + ": " + covered.size() + "/" + expected);
+            }
+        });
+        assertTrue(missing.isEmpty(), "Uncovered combinations for parameters " + missing);
+
+        long exhaustive = Arrays.stream(domainSizes).asLongStream().reduce(1, (a, b) -> a * b);
+        assertTrue(rows.size() <= exhaustive, rows.size() + " rows for " + exhaustive + " exhaustive combinations");
+    }
+
+    @Test(groups = {"regression", "combinatorial"})
+    @Story("Covering Array Generation")
+    @Description("Verify pairwise rows for the create request fields stay close to the product of the two largest domains")
+    @Severity(SeverityLevel.NORMAL)
+    public void testPairwiseRowCount() {
+        int[] domainSizes = {6, 6, 10, 8, 9, 6};
+        int rows = 0;
+        for (int[] ignored : CoveringArray.pairwise(domainSizes)) {
+            rows++;
+        }
+        assertTrue(rows >= 10 * 9, "Pairwise needs at least 90 rows, got " + rows);
+        assertTrue(rows <= 10 * 9 * 3 / 2, "Too many pairwise rows: " + rows);
+    }
+
+    private interface ParameterSetConsumer {
+        void accept(int[] parameters);
+    }
+
+    private static void forEachParameterSet(int parameterCount, int strength, int[] parameters, int depth, int from,
+                                            ParameterSetConsumer consumer) {
+        if (depth == strength) {
+            consumer.accept(parameters);
+            return;
+        }
+        for (int parameter = from; parameter < parameterCount; parameter++) {
+            parameters[depth] = parameter;
+            forEachParameterSet(parameterCount, strength, parameters, depth + 1, parameter + 1, consumer);
+        }
+    }
+}
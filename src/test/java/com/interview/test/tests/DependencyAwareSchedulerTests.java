@@ -0,0 +1,72 @@
+package com.interview.test.tests;
+
+import com.interview.test.base.MethodInstanceStub;
+import com.interview.test.listeners.DependencyAwareScheduler;
+import com.interview.test.listeners.SharedState;
+import io.qameta.allure.*;
+import org.testng.IMethodInstance;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * The scheduler must keep declared dependencies, drop priority batches and keep methods on the same shared
+ * state apart.
+ */
+@Epic("Player Management API")
+@Feature("Test Scheduling")
+public class DependencyAwareSchedulerTests {
+
+    @Test(groups = {"regression", "scheduling"})
+    @Story("Dependency-Aware Scheduling")
+    @Description("Verify dependencies come first, priorities are reset and shared-state methods are spread apart")
+    @Severity(SeverityLevel.NORMAL)
+    public void testOrdersByDependenciesAndSpreadsSharedState() {
+        Map<String, Integer> priorities = new HashMap<>();
+        List<IMethodInstance> methods = List.of(
+                method("writeFirst").groups("writers").priority(1, priorities).build(),
+                method("writeSecond").groups("writers").priority(1, priorities).build(),
+                method("independent").priority(1, priorities).build(),
+                method("readerOne").priority(2, priorities).build(),
+                method("dependent").dependsOnMethods(qualified("independent")).priority(0, priorities).build(),
+                method("afterWriters").dependsOnGroups("writers").priority(0, priorities).build());
+
+        List<String> order = new ArrayList<>();
+        for (IMethodInstance method : new DependencyAwareScheduler().intercept(methods, null)) {
+            order.add(method.getMethod().getMethodName());
+        }
+
+        assertEquals(order.size(), methods.size(), "Scheduled methods " + order);
+        assertTrue(order.indexOf("independent") < order.indexOf("dependent"), "Dependency order " + order);
+        assertTrue(order.indexOf("writeFirst") < order.indexOf("afterWriters"), "Group dependency order " + order);
+        assertTrue(order.indexOf("writeSecond") < order.indexOf("afterWriters"), "Group dependency order " + order);
+        assertTrue(Math.abs(order.indexOf("writeFirst") - order.indexOf("writeSecond")) > 1,
+                "Methods on the same shared state are adjacent: " + order);
+        assertTrue(priorities.values().stream().allMatch(priority -> priority == 0), "Priorities not reset " + priorities);
+    }
+
+    @SharedState("test-state")
+    public void writeFirst() {
+    }
+
+    @SharedState("test-state")
+    public void writeSecond() {
+    }
+
+    @SharedState(value = "test-state", readOnly = true)
+    public void readerOne() {
+    }
+
+    private static MethodInstanceStub method(String name) {
+        return MethodInstanceStub.of(DependencyAwareSchedulerTests.class, name);
+    }
+
+    private static String qualified(String name) {
+        return MethodInstanceStub.qualified(DependencyAwareSchedulerTests.class, name);
+    }
+}
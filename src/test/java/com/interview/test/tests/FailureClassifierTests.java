@@ -0,0 +1,88 @@
+package com.interview.test.tests;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.interview.test.listeners.TransientFailureRetryAnalyzer;
+import com.interview.test.utils.FailureClassifier;
+import com.interview.test.utils.FailureClassifier.Category;
+import io.qameta.allure.*;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.Test;
+
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Only network errors and transient server statuses may be retried; assertion failures must always surface.
+ */
+@Epic("Player Management API")
+@Feature("Test Retry")
+public class FailureClassifierTests {
+
+    @Test(groups = {"regression", "retry"})
+    @Story("Failure Classification")
+    @Description("Verify network errors and 502/503/504 are transient while assertion and parsing failures are not")
+    @Severity(SeverityLevel.NORMAL)
+    public void testClassifiesTransientFailures() {
+        assertEquals(FailureClassifier.classify(new SocketException("Connection reset"), -1), Category.TRANSPORT);
+        assertEquals(FailureClassifier.classify(new RuntimeException(new ConnectException("Connection refused")), -1),
+                Category.TRANSPORT, "Wrapped connect failure");
+        assertEquals(FailureClassifier.classify(new SocketTimeoutException("Read timed out"), 200), Category.TRANSPORT);
+        assertEquals(FailureClassifier.classify(new AssertionError("expected [200] but found [503]"), 503),
+                Category.SERVER_TRANSIENT);
+        assertEquals(FailureClassifier.classify(null, 502), Category.SERVER_TRANSIENT, "Transient response");
+
+        assertEquals(FailureClassifier.classify(new AssertionError("expected [200] but found [400]"), 400),
+                Category.TEST_FAILURE);
+        assertEquals(FailureClassifier.classify(new AssertionError("wrong screen name"), 200), Category.TEST_FAILURE);
+        Throwable unparsable = new UncheckedIOException(new JsonParseException(null, "bad json"));
+        assertEquals(FailureClassifier.classify(unparsable, 200), Category.TEST_FAILURE, "Unparsable body");
+        assertEquals(FailureClassifier.classify(new UnknownHostException("no.such.host"), -1), Category.TEST_FAILURE,
+                "Misconfigured host");
+    }
+
+    @Test(groups = {"regression", "retry"})
+    @Story("Failure Classification")
+    @Description("Verify the retry analyzer never retries an assertion failure and records its category")
+    @Severity(SeverityLevel.NORMAL)
+    public void testAssertionFailureIsNotRetried() {
+        ITestResult result = failedResult(new AssertionError("expected [200] but found [400]"));
+        TransientFailureRetryAnalyzer analyzer = new TransientFailureRetryAnalyzer();
+
+        assertFalse(analyzer.retry(result), "Assertion failure retried");
+        assertEquals(analyzer.getAttempts(), 0);
+        assertEquals(result.getAttribute(TransientFailureRetryAnalyzer.CATEGORY_ATTRIBUTE), Category.TEST_FAILURE);
+    }
+
+    /**
+     * Minimal failed TestNG result with attributes
+     */
+    private static ITestResult failedResult(Throwable throwable) {
+        Map<String, Object> attributes = new HashMap<>();
+        ITestNGMethod method = (ITestNGMethod) Proxy.newProxyInstance(ITestNGMethod.class.getClassLoader(),
+                new Class<?>[]{ITestNGMethod.class}, (proxy, invoked, args) -> switch (invoked.getName()) {
+                    case "getQualifiedName" -> FailureClassifierTests.class.getName() + ".failing";
+                    case "getMethodName" -> "failing";
+                    default -> null;
+                });
+        return (ITestResult) Proxy.newProxyInstance(ITestResult.class.getClassLoader(),
+                new Class<?>[]{ITestResult.class}, (proxy, invoked, args) -> switch (invoked.getName()) {
+                    case "getThrowable" -> throwable;
+                    case "getMethod" -> method;
+                    case "getStatus" -> ITestResult.FAILURE;
+                    case "getAttribute" -> attributes.get((String) args[0]);
+                    case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+}
@@ -2,12 +2,22 @@ package com.interview.test.tests;
 
 import com.interview.test.api.PlayerCreationService;
 import com.interview.test.base.BaseTest;
+import com.interview.test.listeners.SharedState;
 import com.interview.test.models.PlayerCreateRequest;
+import com.interview.test.utils.CoveringArray;
 import com.interview.test.utils.TestDataFactory;
 import io.qameta.allure.*;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.stream.StreamSupport;
+
 /**
  * Test class for Player Creation API endpoint
  * Tests both positive and negative scenarios for /player/create/{editor}
@@ -22,7 +32,7 @@ public class PlayerCreateTests extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     public void testCreatePlayerWithValidData() {
         PlayerCreateRequest testData = PlayerCreateRequest.generateValidPlayerData();
-        new PlayerCreationService(testData, createdPlayerIds)
+        new PlayerCreationService(testData)
                 .verifyStatusCode(200)
                 .verifyCreatedUser()
         ;
@@ -34,7 +44,7 @@ public class PlayerCreateTests extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     public void testCreatePlayerWithAdminEditor() {
         PlayerCreateRequest testData = PlayerCreateRequest.generateValidPlayerData();
-        new PlayerCreationService(testData, config.getAdminEditor(), createdPlayerIds)
+        new PlayerCreationService(testData, config.getAdminEditor())
                 .verifyStatusCode(403)
         ;
     }
@@ -45,7 +55,7 @@ public class PlayerCreateTests extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     public void testCreatePlayerWithoutPassword() {
         PlayerCreateRequest testData = PlayerCreateRequest.generateValidPlayerData().setPassword(null);
-        new PlayerCreationService(testData, createdPlayerIds)
+        new PlayerCreationService(testData)
                 .verifyStatusCode(200)
                 .verifyCreatedUser()
         ;
@@ -65,7 +75,7 @@ public class PlayerCreateTests extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     public void testCreatePlayerWithBoundaryValues(int ageValue, String description) {
         PlayerCreateRequest testData = PlayerCreateRequest.generateValidPlayerData().setAge(ageValue);
-        new PlayerCreationService(testData, createdPlayerIds)
+        new PlayerCreationService(testData)
                 .verifyStatusCode(400)
         ;
     }
@@ -76,7 +86,7 @@ public class PlayerCreateTests extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     public void testCreatePlayerWithInvalidEditor() {
         PlayerCreateRequest testData = PlayerCreateRequest.generateValidPlayerData();
-        new PlayerCreationService(testData, invalidEditor, createdPlayerIds)
+        new PlayerCreationService(testData, invalidEditor)
                 .verifyStatusCode(403);
     }
 
@@ -137,7 +147,7 @@ public class PlayerCreateTests extends BaseTest {
     @Description("Test player creation fails with empty/null mandatory fields")
     @Severity(SeverityLevel.NORMAL)
     public void testCreatePlayerWithEmptyMandatoryFields(String testCaseName, PlayerCreateRequest testData, String description) {
-        new PlayerCreationService(testData, createdPlayerIds)
+        new PlayerCreationService(testData)
                 .verifyStatusCode(400);
     }
 
@@ -167,7 +177,56 @@ public class PlayerCreateTests extends BaseTest {
     @Description("Test player creation fails with invalid field values")
     @Severity(SeverityLevel.NORMAL)
     public void testCreatePlayerWithInvalidFields(String testCaseName, PlayerCreateRequest testData, String description) {
-        new PlayerCreationService(testData, createdPlayerIds)
+        new PlayerCreationService(testData)
+                .verifyStatusCode(400);
+    }
+
+    /**
+     * Every pair (or test.combinatorial.strength-tuple) of invalid/valid field values, generated as TestNG asks for
+     * the next case. Value index 0 of every field keeps the generated valid value; all-valid rows are skipped.
+     */
+    @DataProvider(name = "invalidFieldCombinations")
+    public Iterator<Object[]> invalidFieldCombinations() {
+        Map<String, List<Object>> invalidValues = TestDataFactory.getInvalidFieldValues();
+        List<String> fields = new ArrayList<>(invalidValues.keySet());
+        int[] domainSizes = fields.stream().mapToInt(field -> invalidValues.get(field).size() + 1).toArray();
+        int strength = Integer.parseInt(config.getProperty("test.combinatorial.strength", "2"));
+
+        return StreamSupport.stream(CoveringArray.of(strength, domainSizes).spliterator(), false)
+                .filter(row -> Arrays.stream(row).anyMatch(value -> value > 0))
+                .map(row -> {
+                    PlayerCreateRequest testData = PlayerCreateRequest.generateValidPlayerData();
+                    StringJoiner testCaseName = new StringJoiner(", ");
+                    for (int i = 0; i < row.length; i++) {
+                        if (row[i] > 0) {
+                            Object value = invalidValues.get(fields.get(i)).get(row[i] - 1);
+                            setField(testData, fields.get(i), value);
+                            testCaseName.add(fields.get(i) + "=" + (value instanceof String ? "'" + value + "'" : value));
+                        }
+                    }
+                    return new Object[]{testCaseName.toString(), testData};
+                })
+                .iterator();
+    }
+
+    private static void setField(PlayerCreateRequest testData, String field, Object value) {
+        switch (field) {
+            case "login" -> testData.setLogin((String) value);
+            case "password" -> testData.setPassword((String) value);
+            case "role" -> testData.setRole((String) value);
+            case "age" -> testData.setAge((Integer) value);
+            case "gender" -> testData.setGender((String) value);
+            case "screenName" -> testData.setScreenName((String) value);
+            default -> throw new IllegalArgumentException("Unknown field " + field);
+        }
+    }
+
+    @Test(groups = {"negative", "regression"}, priority = 8, dataProvider = "invalidFieldCombinations")
+    @Story("Create Player with Invalid Field Combinations")
+    @Description("Test player creation fails for pairwise combinations of invalid field values")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCreatePlayerWithInvalidFieldCombinations(String testCaseName, PlayerCreateRequest testData) {
+        new PlayerCreationService(testData)
                 .verifyStatusCode(400);
     }
 
@@ -178,7 +237,7 @@ public class PlayerCreateTests extends BaseTest {
     public void testCreatePlayerWithDuplicateLogin() {
 
         PlayerCreateRequest testData = PlayerCreateRequest.generateValidPlayerData();
-        new PlayerCreationService(testData, createdPlayerIds)
+        new PlayerCreationService(testData)
                 .verifyStatusCode(200);
 
         PlayerCreateRequest testData_second = PlayerCreateRequest.generateValidPlayerData()
@@ -188,7 +247,7 @@ public class PlayerCreateTests extends BaseTest {
                 .setGender(testData.getGender())
                 ;
 
-        new PlayerCreationService(testData_second, createdPlayerIds)
+        new PlayerCreationService(testData_second)
                 .verifyStatusCode(400);
     }
 
@@ -218,7 +277,7 @@ public class PlayerCreateTests extends BaseTest {
     @Description("Test player creation security against SQL injection attacks")
     @Severity(SeverityLevel.CRITICAL)
     public void testCreatePlayerWithSqlInjection(String targetField, PlayerCreateRequest testData) {
-        new PlayerCreationService(testData, createdPlayerIds)
+        new PlayerCreationService(testData)
                 .verifyStatusCode(400);
     }
 
@@ -247,7 +306,7 @@ public class PlayerCreateTests extends BaseTest {
     @Description("Test player creation security against XSS attacks")
     @Severity(SeverityLevel.CRITICAL)
     public void testCreatePlayerWithXss(String targetField, PlayerCreateRequest testData) {
-        new PlayerCreationService(testData, createdPlayerIds)
+        new PlayerCreationService(testData)
                 .verifyStatusCode(400);
     }
 
@@ -261,7 +320,7 @@ public class PlayerCreateTests extends BaseTest {
         PlayerCreateRequest testData = PlayerCreateRequest.generateValidPlayerData()
                 .setLogin(largeString)
                 .setScreenName(largeString);
-        new PlayerCreationService(testData, createdPlayerIds)
+        new PlayerCreationService(testData)
                 .verifyStatusCode(400)
         ;
     }
@@ -270,12 +329,13 @@ public class PlayerCreateTests extends BaseTest {
     @Story("Create Player with Unicode Characters")
     @Description("Test player creation with international characters")
     @Severity(SeverityLevel.NORMAL)
+    @SharedState(SharedState.PLAYER_LIST)
     public void testCreatePlayerWithUnicodeCharacters() {
         PlayerCreateRequest testData = PlayerCreateRequest.generateValidPlayerData()
                 .setLogin("测试用户_" + System.currentTimeMillis())
                 .setPassword("пароль123")
                 .setScreenName("игрок_试验_テスト");
-        new PlayerCreationService(testData, createdPlayerIds)
+        new PlayerCreationService(testData)
                 .verifyStatusCode(200)
         ;
     }
@@ -1,10 +1,10 @@
 package com.interview.test.tests;
 
-import com.interview.test.api.PlayerCreationService;
 import com.interview.test.api.PlayerDeleteService;
 import com.interview.test.base.BaseTest;
-import com.interview.test.models.PlayerCreateRequest;
+import com.interview.test.fixtures.PlayerLease;
 import io.qameta.allure.*;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -13,12 +13,25 @@ import org.testng.annotations.Test;
 @Feature("Player Deletion")
 public class PlayerDeleteTests extends BaseTest {
 
-    private long playerToDeleteId;
+    // per thread: a method's @BeforeMethod, body and @AfterMethod share one thread, so methods can run in parallel
+    private final ThreadLocal<PlayerLease> playerToDeleteLease = new ThreadLocal<>();
 
-    @BeforeMethod(alwaysRun = true, groups = "playerToDelete")
-    private void createPlayerToDelete() {
-        this.playerToDeleteId = new PlayerCreationService(PlayerCreateRequest.generateValidPlayerData(), createdPlayerIds)
-                .verifyStatusCode(200).getCreatedPlayer().getId();
+    @BeforeMethod(alwaysRun = true, onlyForGroups = "playerToDelete")
+    private void leasePlayerToDelete() {
+        playerToDeleteLease.set(fixtures.leaseExclusive());
+    }
+
+    @AfterMethod(alwaysRun = true, onlyForGroups = "playerToDelete")
+    private void releasePlayerToDelete() {
+        PlayerLease lease = playerToDeleteLease.get();
+        if (lease != null) {
+            lease.close();
+            playerToDeleteLease.remove();
+        }
+    }
+
+    private Long playerToDeleteId() {
+        return playerToDeleteLease.get().getPlayer().getId();
     }
 
 
@@ -28,7 +41,7 @@ public class PlayerDeleteTests extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     public void testDeletePlayerSuccessfully() {
 
-        new PlayerDeleteService(playerToDeleteId, createdPlayerIds)
+        new PlayerDeleteService(playerToDeleteId())
                 .verifyStatusCode()
                 .verifyDeletedPlayer();
     }
@@ -39,7 +52,7 @@ public class PlayerDeleteTests extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     public void testDeleteNonExistentPlayer() {
         Long nonExistentId = 9999999999999L;
-        new PlayerDeleteService(nonExistentId, createdPlayerIds)
+        new PlayerDeleteService(nonExistentId)
                 .verifyStatusCode(404);
     }
 
@@ -48,7 +61,7 @@ public class PlayerDeleteTests extends BaseTest {
     @Description("Test deletion fails with unauthorized editor")
     @Severity(SeverityLevel.NORMAL)
     public void testDeletePlayerWithInvalidEditor() {
-        new PlayerDeleteService(playerToDeleteId, adminEditor, createdPlayerIds)
+        new PlayerDeleteService(playerToDeleteId(), adminEditor)
                 .verifyStatusCode();
     }
 
@@ -57,7 +70,7 @@ public class PlayerDeleteTests extends BaseTest {
     @Description("Test deletion fails with null player ID")
     @Severity(SeverityLevel.NORMAL)
     public void testDeletePlayerWithNullId() {
-        new PlayerDeleteService(null, createdPlayerIds)
+        new PlayerDeleteService(null)
                 .verifyStatusCode(400);
     }
 
@@ -66,7 +79,7 @@ public class PlayerDeleteTests extends BaseTest {
     @Description("Test deletion fails with un-existed editor")
     @Severity(SeverityLevel.NORMAL)
     public void testDeletePlayerWithUnexistedEditor() {
-        new PlayerDeleteService(playerToDeleteId, invalidEditor, createdPlayerIds)
+        new PlayerDeleteService(playerToDeleteId(), invalidEditor)
                 .verifyStatusCode(404);
     }
 }
\ No newline at end of file
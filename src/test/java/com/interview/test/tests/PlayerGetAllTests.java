@@ -3,13 +3,16 @@ package com.interview.test.tests;
 import com.interview.test.api.PlayerCreationService;
 import com.interview.test.api.PlayerGetAllService;
 import com.interview.test.base.BaseTest;
+import com.interview.test.listeners.SharedState;
 import com.interview.test.models.PlayerCreateRequest;
 import com.interview.test.models.PlayerGetAllResponse;
 import com.interview.test.models.PlayerGetByIdResponse;
 import com.interview.test.models.PlayerItem;
 import com.interview.test.utils.TestDataFactory;
+import com.interview.test.utils.TestNamespace;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
+import org.testng.SkipException;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -22,22 +25,25 @@ import static org.testng.Assert.*;
 @Feature("Get All Players")
 public class PlayerGetAllTests extends BaseTest {
 
-    private PlayerGetByIdResponse createdPlayer;
+    // per thread: a method's @BeforeMethod and body share one thread, so methods can run in parallel
+    private final ThreadLocal<PlayerGetByIdResponse> createdPlayer = new ThreadLocal<>();
 
     @BeforeMethod(alwaysRun = true, onlyForGroups = "createdPlayer")
     private void createPlayer() {
-        this.createdPlayer = new PlayerCreationService(PlayerCreateRequest.generateValidPlayerData(), createdPlayerIds)
-                .verifyStatusCode(200).getExpectedCreatedPlayer();
+        createdPlayer.set(new PlayerCreationService(PlayerCreateRequest.generateValidPlayerData())
+                .verifyStatusCode(200).getExpectedCreatedPlayer());
     }
 
     @Test(groups = {"smoke", "positive", "critical"}, priority = 1)
     @Story("Get All Players Successfully")
     @Description("Test successful retrieval of all players")
     @Severity(SeverityLevel.CRITICAL)
+    @SharedState(value = SharedState.PLAYER_LIST, readOnly = true)
     public void testGetAllPlayersSuccessfully() {
 
         new PlayerGetAllService()
                 .verifyStatusCode()
+                .filterToNamespace()
                 .verifyPlayerListAmount()
                 .verifyMandatoryUsersAvailability()
         ;
@@ -51,10 +57,35 @@ public class PlayerGetAllTests extends BaseTest {
     public void testGetAllPlayersAfterCreation() {
         new PlayerGetAllService()
                 .verifyStatusCode()
-                .verifyNewlyCreatedPlayerAvailability(createdPlayer)
+                .filterToNamespace()
+                .verifyNewlyCreatedPlayerAvailability(createdPlayer.get())
         ;
     }
 
+    @Test(groups = {"positive", "regression", "createdPlayer"}, priority = 2)
+    @Story("Get All Players After Creation")
+    @Description("Verify players created by this worker carry its namespace and no other worker's players are visible")
+    @Severity(SeverityLevel.NORMAL)
+    public void testGetAllPlayersNamespaceIsolation() {
+        PlayerGetByIdResponse createdPlayer = this.createdPlayer.get();
+        if (TestNamespace.current().isEmpty()) {
+            throw new SkipException("Test namespaces are disabled");
+        }
+        assertTrue(TestNamespace.isOwn(createdPlayer.getScreenName()),
+                "Created player " + createdPlayer.getScreenName() + " is not in namespace " + TestNamespace.current());
+        assertTrue(createdPlayer.getLogin().contains(TestNamespace.current()),
+                "Created login " + createdPlayer.getLogin() + " is not in namespace " + TestNamespace.current());
+
+        List<PlayerItem> visible = new PlayerGetAllService()
+                .verifyStatusCode()
+                .filterToNamespace()
+                .getPlayerList();
+        assertTrue(visible.stream().noneMatch(item -> TestNamespace.isForeign(item.getScreenName())),
+                "Players of other workers are visible");
+        assertTrue(visible.stream().anyMatch(item -> createdPlayer.getId().equals(item.getId())),
+                "Created player " + createdPlayer.getId() + " is not visible in its namespace");
+    }
+
     @Test(groups = {"positive", "regression"}, priority = 3)
     @Story("Get All Players Performance")
     @Description("Verify get all players response time")
@@ -69,6 +100,7 @@ public class PlayerGetAllTests extends BaseTest {
     @Story("Get All Players Data Structure")
     @Description("Verify correct data structure in get all response")
     @Severity(SeverityLevel.NORMAL)
+    @SharedState(value = SharedState.PLAYER_LIST, readOnly = true)
     public void testGetAllPlayersDataStructure() {
 
         new PlayerGetAllService()
@@ -76,6 +108,29 @@ public class PlayerGetAllTests extends BaseTest {
                 .verifyJsonSchema();
     }
 
+    @Test(groups = {"positive", "data-integrity"}, priority = 4)
+    @Story("Get All Players Data Structure")
+    @Description("Verify get all response structure with the streaming validator, reading the body from the wire")
+    @Severity(SeverityLevel.NORMAL)
+    @SharedState(value = SharedState.PLAYER_LIST, readOnly = true)
+    public void testGetAllPlayersDataStructureStreaming() {
+
+        PlayerGetAllService.verifyJsonSchemaStreaming();
+    }
+
+    @Test(groups = {"positive", "data-integrity", "createdPlayer"}, priority = 4)
+    @Story("Get All Players Data Integrity")
+    @Description("Verify this worker's players satisfy the field rules and all players have unique ids")
+    @Severity(SeverityLevel.NORMAL)
+    @SharedState(value = SharedState.PLAYER_LIST, readOnly = true)
+    public void testGetAllPlayersIntegrity() {
+
+        new PlayerGetAllService()
+                .verifyStatusCode()
+                .verifyNewlyCreatedPlayerAvailability(createdPlayer.get())
+                .verifyPlayersIntegrity();
+    }
+
     @Test(groups = {"smoke", "positive"}, priority = 5)
     @Story("Get All Players with Admin Editor")
     @Description("Test get all players using admin editor privileges")
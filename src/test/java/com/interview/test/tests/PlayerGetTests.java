@@ -1,11 +1,11 @@
 package com.interview.test.tests;
 
-import com.interview.test.api.PlayerCreationService;
 import com.interview.test.api.PlayerGetByIdService;
 import com.interview.test.base.BaseTest;
-import com.interview.test.models.PlayerCreateRequest;
+import com.interview.test.fixtures.PlayerLease;
 import com.interview.test.models.PlayerGetByIdResponse;
 import io.qameta.allure.*;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
@@ -19,12 +19,20 @@ import org.testng.annotations.Test;
 public class PlayerGetTests extends BaseTest {
 
 
+    private PlayerLease existedPlayerLease;
     private PlayerGetByIdResponse existedPlayer;
 
     @BeforeClass(alwaysRun = true)
-    private void createPlayerToDelete() {
-        this.existedPlayer = new PlayerCreationService(PlayerCreateRequest.generateValidPlayerData(), createdPlayerIds)
-                .verifyStatusCode(200).getExpectedCreatedPlayer();
+    private void leaseExistedPlayer() {
+        this.existedPlayerLease = fixtures.leaseShared();
+        this.existedPlayer = existedPlayerLease.getPlayer();
+    }
+
+    @AfterClass(alwaysRun = true)
+    private void releaseExistedPlayer() {
+        if (existedPlayerLease != null) {
+            existedPlayerLease.close();
+        }
     }
 
     @Test(groups = {"smoke", "positive", "critical"}, priority = 1)
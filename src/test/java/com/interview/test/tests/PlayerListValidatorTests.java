@@ -0,0 +1,101 @@
+package com.interview.test.tests;
+
+import com.interview.test.models.PlayerItem;
+import com.interview.test.utils.PlayerListValidator;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * The list validator runs on a synthetic list, so its result depends only on the validator and not on whatever
+ * other runs left on the shared server.
+ */
+@Epic("Player Management API")
+@Feature("Get All Players")
+public class PlayerListValidatorTests {
+
+    private static final String SCHEMA = "schemas/player-get-all-schema.json";
+
+    @Test(groups = {"regression", "data-integrity"})
+    @Story("Get All Players Data Integrity")
+    @Description("Verify invalid and duplicate players are reported in item order, the same by both validation paths")
+    @Severity(SeverityLevel.NORMAL)
+    public void testReportsInvalidPlayersInOrder() {
+        List<PlayerItem> players = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            players.add(player(id, 30, "MALE", "admin", "Player" + id));
+        }
+        players.set(10, player(11L, 200, "MALE", "admin", "Player11"));
+        players.set(20, player(21L, 30, "male", "admin", "Player21"));
+        players.set(30, null);
+        players.set(40, player(41L, 30, "FEMALE", "owner", "x"));
+        players.set(900, player(5L, 30, "OTHER", "supervisor", "Player5"));
+        players.get(500).setRole(null);
+
+        List<String> expected = List.of(
+                "/players/10/age: age 200 is out of the allowed range",
+                "/players/20/gender: unknown gender 'male'",
+                "/players/30: expected object but found null",
+                "/players/40/role: unknown role 'owner'",
+                "/players/40/screenName: invalid screen name 'x'",
+                "/players/500: missing required property 'role'",
+                "/players/900/id: duplicate id 5, first seen at /players/4");
+
+        List<String> sequential = PlayerListValidator.fromSchema(SCHEMA, "players", Integer.MAX_VALUE, 64)
+                .validate(players);
+        List<String> parallel = PlayerListValidator.fromSchema(SCHEMA, "players", 1, 64).validate(players);
+        assertEquals(sequential, expected, "Sequential violations");
+        assertEquals(parallel, expected, "Parallel violations");
+    }
+
+    @Test(groups = {"regression", "data-integrity"})
+    @Story("Get All Players Data Integrity")
+    @Description("Verify a list of valid players with unique ids has no violations")
+    @Severity(SeverityLevel.NORMAL)
+    public void testValidListHasNoViolations() {
+        List<PlayerItem> players = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            players.add(player(id, 18 + (int) (id % 40), id % 2 == 0 ? "FEMALE" : "MALE",
+                    id % 3 == 0 ? "supervisor" : "admin", "Player " + id));
+        }
+        assertTrue(PlayerListValidator.fromSchema(SCHEMA, "players", 10, 8).validate(players).isEmpty());
+    }
+
+    @Test(groups = {"regression", "data-integrity"})
+    @Story("Get All Players Data Integrity")
+    @Description("Verify unchecked players are skipped by the field rules but still take part in the id check")
+    @Severity(SeverityLevel.NORMAL)
+    public void testFieldRulesOnlyForCheckedPlayers() {
+        List<PlayerItem> players = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            players.add(player(id, 30, "MALE", "admin", "own_" + id));
+        }
+        players.set(10, player(11L, 30, "MALE", "admin", "игрок_试验_テスト"));
+        players.set(20, player(21L, 200, "male", "owner", "other_21"));
+        players.set(30, player(5L, 30, "MALE", "admin", "other_5"));
+        players.set(40, player(41L, 200, "MALE", "admin", "own_41"));
+
+        List<String> expected = List.of(
+                "/players/30/id: duplicate id 5, first seen at /players/4",
+                "/players/40/age: age 200 is out of the allowed range");
+        for (int threshold : new int[]{Integer.MAX_VALUE, 1}) {
+            assertEquals(PlayerListValidator.fromSchema(SCHEMA, "players", threshold, 8)
+                            .validate(players, player -> player.getScreenName().startsWith("own_")),
+                    expected, "Violations with parallel threshold " + threshold);
+        }
+    }
+
+    private static PlayerItem player(Long id, Integer age, String gender, String role, String screenName) {
+        PlayerItem player = new PlayerItem();
+        player.setId(id);
+        player.setAge(age);
+        player.setGender(gender);
+        player.setRole(role);
+        player.setScreenName(screenName);
+        return player;
+    }
+}
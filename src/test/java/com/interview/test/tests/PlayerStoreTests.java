@@ -0,0 +1,83 @@
+package com.interview.test.tests;
+
+import com.interview.test.models.PlayerCreateRequest;
+import com.interview.test.models.PlayerStore;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * The store packs players into columns and a byte arena; every field must read back exactly as it was added.
+ */
+@Epic("Player Management API")
+@Feature("Test Data Generation")
+public class PlayerStoreTests {
+
+    @Test(groups = {"regression", "data-generation"})
+    @Story("Player Store")
+    @Description("Verify players read back unchanged across growth, non-ASCII text and a full login prefix vocabulary")
+    @Severity(SeverityLevel.NORMAL)
+    public void testRoundTrip() {
+        PlayerStore store = new PlayerStore(16);
+        List<PlayerCreateRequest> added = new ArrayList<>();
+        // 300 distinct prefixes overflow the 255 prefix codes, the rest is stored with the full login
+        for (int i = 0; i < 1000; i++) {
+            String login = "prefix" + (i % 300) + "_" + (i % 7 == 0 ? "игрок" : "player") + i;
+            PlayerCreateRequest player = PlayerCreateRequest.builder()
+                    .login(i % 50 == 0 ? "noprefix" + i : login)
+                    .password(i % 3 == 0 ? null : "password" + (i % 5))
+                    .role(i % 2 == 0 ? "admin" : "supervisor")
+                    .age(i % 150 + 1)
+                    .gender(i % 11 == 0 ? null : "FEMALE")
+                    .screenName(i % 5 == 0 ? "名前 " + i + " 🎮" : "Player " + i)
+                    .build();
+            assertEquals(store.add(player), i, "Index of added player");
+            added.add(player);
+        }
+        for (int i = 0; i < added.size(); i += 3) {
+            store.setId(i, 10_000L + i);
+        }
+
+        assertEquals(store.size(), added.size());
+        PlayerStore.View view = store.view();
+        for (int i = 0; i < added.size(); i++) {
+            PlayerCreateRequest expected = added.get(i);
+            view.moveTo(i);
+            assertEquals(view.getLogin(), expected.getLogin(), "Login of " + i);
+            assertEquals(view.getPassword(), expected.getPassword(), "Password of " + i);
+            assertEquals(view.getRole(), expected.getRole(), "Role of " + i);
+            assertEquals(view.getAge(), (int) expected.getAge(), "Age of " + i);
+            assertEquals(view.getGender(), expected.getGender(), "Gender of " + i);
+            assertEquals(view.getScreenName(), expected.getScreenName(), "Screen name of " + i);
+            assertEquals(view.getId(), i % 3 == 0 ? 10_000L + i : PlayerStore.NO_ID, "Id of " + i);
+        }
+        assertEquals(store.view(999).toCreateRequest().getScreenName(), added.get(999).getScreenName());
+    }
+
+    @Test(groups = {"regression", "data-generation"}, expectedExceptions = IllegalArgumentException.class)
+    @Story("Player Store")
+    @Description("Verify a create request without age is rejected")
+    @Severity(SeverityLevel.MINOR)
+    public void testNullAgeRejected() {
+        new PlayerStore(16).add(PlayerCreateRequest.builder()
+                .login("test_user_1")
+                .role("admin")
+                .gender("MALE")
+                .screenName("Player")
+                .build());
+    }
+
+    @Test(groups = {"regression", "data-generation"}, expectedExceptions = IndexOutOfBoundsException.class)
+    @Story("Player Store")
+    @Description("Verify setting the id of a player that was never added fails")
+    @Severity(SeverityLevel.MINOR)
+    public void testSetIdOutOfRange() {
+        PlayerStore store = new PlayerStore(16);
+        store.add("test_user_1", null, "admin", 30, "MALE", "Player");
+        store.setId(1, 42L);
+    }
+}
@@ -1,10 +1,11 @@
 package com.interview.test.tests;
 
-import com.interview.test.api.PlayerCreationService;
 import com.interview.test.api.PlayerUpdateService;
 import com.interview.test.base.BaseTest;
+import com.interview.test.fixtures.PlayerLease;
 import com.interview.test.models.*;
 import io.qameta.allure.*;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import java.util.List;
@@ -14,12 +15,25 @@ import java.util.List;
 @Feature("Player Update")
 public class PlayerUpdateTests extends BaseTest {
 
-    private PlayerGetByIdResponse initialPlayer;
+    // per thread: a method's @BeforeMethod, body and @AfterMethod share one thread, so methods can run in parallel
+    private final ThreadLocal<PlayerLease> initialPlayerLease = new ThreadLocal<>();
 
     @BeforeMethod(alwaysRun = true)
-    private void createPlayerToUpdate() {
-        this.initialPlayer = new PlayerCreationService(PlayerCreateRequest.generateValidPlayerData(), createdPlayerIds)
-                .verifyStatusCode(200).getExpectedCreatedPlayer();
+    private void leasePlayerToUpdate() {
+        initialPlayerLease.set(fixtures.leaseExclusive());
+    }
+
+    @AfterMethod(alwaysRun = true)
+    private void releasePlayerToUpdate() {
+        PlayerLease lease = initialPlayerLease.get();
+        if (lease != null) {
+            lease.close();
+            initialPlayerLease.remove();
+        }
+    }
+
+    private PlayerGetByIdResponse initialPlayer() {
+        return initialPlayerLease.get().getPlayer();
     }
 
     @Test(groups = {"smoke", "positive", "critical"}, priority = 1)
@@ -28,11 +42,11 @@ public class PlayerUpdateTests extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     public void testUpdatePlayerWithValidData() {
 
-        PlayerUpdateRequest testData = PlayerUpdateRequest.updateData(initialPlayer);
+        PlayerUpdateRequest testData = PlayerUpdateRequest.updateData(initialPlayer());
 
-        PlayerUpdateService.builder(initialPlayer.getId(), testData)
+        PlayerUpdateService.builder(initialPlayer().getId(), testData)
                 .editor(supervisorEditor)
-                .initialPlayer(initialPlayer)
+                .initialPlayer(initialPlayer())
                 .build()
                 .verifyStatusCode()
                 .verifyJsonSchema()
@@ -45,11 +59,11 @@ public class PlayerUpdateTests extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     public void testPartialPlayerUpdate() {
 
-        PlayerUpdateRequest testData = PlayerUpdateRequest.updateData(initialPlayer, List.of("age", "gender"));
+        PlayerUpdateRequest testData = PlayerUpdateRequest.updateData(initialPlayer(), List.of("age", "gender"));
 
-        PlayerUpdateService.builder(initialPlayer.getId(), testData)
+        PlayerUpdateService.builder(initialPlayer().getId(), testData)
                 .editor(supervisorEditor)
-                .initialPlayer(initialPlayer)
+                .initialPlayer(initialPlayer())
                 .build()
                 .verifyStatusCode()
                 .verifyJsonSchema()
@@ -62,11 +76,11 @@ public class PlayerUpdateTests extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     public void testUpdateNonExistentPlayer() {
         Long nonExistentId = 999999999999L;
-        PlayerUpdateRequest testData = PlayerUpdateRequest.updateData(initialPlayer);
+        PlayerUpdateRequest testData = PlayerUpdateRequest.updateData(initialPlayer());
 
         PlayerUpdateService.builder(nonExistentId, testData)
                 .editor(supervisorEditor)
-                .initialPlayer(initialPlayer)
+                .initialPlayer(initialPlayer())
                 .build()
                 .verifyStatusCode(404);
     }
@@ -76,11 +90,11 @@ public class PlayerUpdateTests extends BaseTest {
     @Description("Test update fails with unauthorized editor")
     @Severity(SeverityLevel.NORMAL)
     public void testUpdatePlayerWithAdminEditor() {
-        PlayerUpdateRequest testData = PlayerUpdateRequest.updateData(initialPlayer, List.of("age", "gender"));
+        PlayerUpdateRequest testData = PlayerUpdateRequest.updateData(initialPlayer(), List.of("age", "gender"));
 
-        PlayerUpdateService.builder(initialPlayer.getId(), testData)
+        PlayerUpdateService.builder(initialPlayer().getId(), testData)
                 .editor(invalidEditor)
-                .initialPlayer(initialPlayer)
+                .initialPlayer(initialPlayer())
                 .build()
                 .verifyStatusCode(403);
     }
@@ -90,11 +104,11 @@ public class PlayerUpdateTests extends BaseTest {
     @Description("Test update fails with unauthorized editor")
     @Severity(SeverityLevel.NORMAL)
     public void testUpdatePlayerWithInvalidEditor() {
-        PlayerUpdateRequest testData = PlayerUpdateRequest.updateData(initialPlayer, List.of("age", "gender"));
+        PlayerUpdateRequest testData = PlayerUpdateRequest.updateData(initialPlayer(), List.of("age", "gender"));
 
-        PlayerUpdateService.builder(initialPlayer.getId(), testData)
+        PlayerUpdateService.builder(initialPlayer().getId(), testData)
                 .editor(invalidEditor)
-                .initialPlayer(initialPlayer)
+                .initialPlayer(initialPlayer())
                 .build()
                 .verifyStatusCode(403);
     }
@@ -0,0 +1,196 @@
+package com.interview.test.tests;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.interview.test.utils.GeneratedSchemaValidator;
+import com.interview.test.utils.JsonSchemaRegistry;
+import io.qameta.allure.*;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Build-time generated schema validators must accept and reject exactly what the runtime validator does.
+ * The corpus is derived from each schema: a valid instance plus mutations of every location in it.
+ */
+@Epic("Player Management API")
+@Feature("Schema Validation")
+public class SchemaValidatorEquivalenceTests {
+
+    private static final JsonNodeFactory nodes = JsonNodeFactory.instance;
+
+    @DataProvider(name = "schemas")
+    public Object[][] schemas() throws IOException, URISyntaxException {
+        Path directory = Paths.get(Objects.requireNonNull(
+                getClass().getClassLoader().getResource("schemas"), "schemas directory not on classpath").toURI());
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> "schemas/" + file.getFileName())
+                    .filter(path -> path.endsWith(".json"))
+                    .sorted()
+                    .map(path -> new Object[]{path})
+                    .toArray(Object[][]::new);
+        }
+    }
+
+    @Test(groups = {"regression", "schema"}, dataProvider = "schemas")
+    @Story("Generated Schema Validators")
+    @Description("Verify the generated validator gives the same pass/fail result as the runtime validator")
+    @Severity(SeverityLevel.NORMAL)
+    public void testGeneratedValidatorMatchesRuntimeValidator(String schemaPath) throws IOException {
+        GeneratedSchemaValidator generated = JsonSchemaRegistry.getGenerated(schemaPath);
+        assertNotNull(generated, "No generated validator for " + schemaPath + ", run generateSchemaValidators");
+
+        JsonNode schema;
+        try (var input = getClass().getClassLoader().getResourceAsStream(schemaPath)) {
+            schema = new ObjectMapper().readTree(input);
+        }
+        Map<String, JsonNode> corpus = corpus(schema);
+        List<String> mismatches = new ArrayList<>();
+        corpus.forEach((label, instance) -> {
+            boolean runtimeValid = JsonSchemaRegistry.get(schemaPath).validateUnchecked(instance).isSuccess();
+            List<String> violations = new ArrayList<>();
+            generated.validate(instance, violations);
+            if (runtimeValid != violations.isEmpty()) {
+                mismatches.add(label + " runtime=" + runtimeValid + " generated=" + violations);
+            }
+        });
+
+        assertTrue(corpus.size() > 1, "Corpus for " + schemaPath + " is empty");
+        assertTrue(mismatches.isEmpty(), schemaPath + " generated validator disagrees on:\n  "
+                + String.join("\n  ", mismatches));
+    }
+
+    /**
+     * Valid instance plus one document per replacement value at every location and per removed/added property
+     */
+    private static Map<String, JsonNode> corpus(JsonNode schema) {
+        JsonNode valid = validInstance(schema);
+        Map<String, JsonNode> corpus = new LinkedHashMap<>();
+        corpus.put("valid", valid);
+
+        Map<String, JsonNode> locations = new LinkedHashMap<>();
+        collectLocations(schema, "", locations);
+        locations.forEach((pointer, locationSchema) -> {
+            for (JsonNode replacement : replacements(locationSchema)) {
+                corpus.put(pointer + " = " + replacement, replace(valid, pointer, replacement));
+            }
+            JsonNode current = valid.at(pointer);
+            if (current.isObject()) {
+                Iterator<String> names = current.fieldNames();
+                while (names.hasNext()) {
+                    String name = names.next();
+                    ObjectNode without = ((ObjectNode) current.deepCopy());
+                    without.remove(name);
+                    corpus.put(pointer + " without " + name, replace(valid, pointer, without));
+                }
+                ObjectNode extra = ((ObjectNode) current.deepCopy()).put("unexpectedProperty", "x");
+                corpus.put(pointer + " with extra property", replace(valid, pointer, extra));
+            }
+        });
+        return corpus;
+    }
+
+    private static void collectLocations(JsonNode schema, String pointer, Map<String, JsonNode> locations) {
+        locations.put(pointer, schema);
+        schema.path("properties").fields().forEachRemaining(entry ->
+                collectLocations(entry.getValue(), pointer + "/" + entry.getKey(), locations));
+        if (schema.path("items").isObject()) {
+            collectLocations(schema.get("items"), pointer + "/0", locations);
+        }
+    }
+
+    private static List<JsonNode> replacements(JsonNode schema) {
+        List<JsonNode> values = new ArrayList<>(List.of(
+                nodes.nullNode(), nodes.booleanNode(true), nodes.textNode(""), nodes.textNode("x"),
+                nodes.textNode("y".repeat(300)), nodes.textNode("OTHER_VALUE"), nodes.numberNode(-1),
+                nodes.numberNode(0), nodes.numberNode(1000), nodes.numberNode(1.5), nodes.numberNode(2.0),
+                nodes.numberNode(Long.MAX_VALUE), nodes.numberNode(BigInteger.TEN.pow(30)),
+                nodes.objectNode(), nodes.arrayNode()));
+        for (String bound : new String[]{"minimum", "maximum"}) {
+            if (schema.has(bound)) {
+                long value = schema.get(bound).asLong();
+                values.add(nodes.numberNode(value - 1));
+                values.add(nodes.numberNode(value));
+                values.add(nodes.numberNode(value + 1));
+            }
+        }
+        for (String length : new String[]{"minLength", "maxLength"}) {
+            if (schema.has(length)) {
+                int value = schema.get(length).asInt();
+                values.add(nodes.textNode("z".repeat(Math.max(value - 1, 0))));
+                values.add(nodes.textNode("z".repeat(value)));
+                values.add(nodes.textNode("z".repeat(value + 1)));
+            }
+        }
+        schema.path("enum").forEach(value -> values.add(value.deepCopy()));
+        return values;
+    }
+
+    private static JsonNode validInstance(JsonNode schema) {
+        if (schema.has("enum")) {
+            return schema.get("enum").get(0).deepCopy();
+        }
+        JsonNode typeNode = schema.path("type");
+        String type = typeNode.isArray() ? typeNode.get(0).asText() : typeNode.asText("object");
+        switch (type) {
+            case "object":
+                ObjectNode object = nodes.objectNode();
+                schema.path("properties").fields()
+                        .forEachRemaining(entry -> object.set(entry.getKey(), validInstance(entry.getValue())));
+                return object;
+            case "array":
+                ArrayNode array = nodes.arrayNode();
+                if (schema.path("items").isObject()) {
+                    array.add(validInstance(schema.get("items")));
+                    array.add(validInstance(schema.get("items")));
+                }
+                return array;
+            case "string":
+                int length = Math.max(schema.path("minLength").asInt(1), 1);
+                return nodes.textNode("s".repeat(Math.min(length, schema.path("maxLength").asInt(length))));
+            case "integer":
+            case "number":
+                long value = schema.has("minimum") ? schema.get("minimum").asLong() : 1;
+                return nodes.numberNode(schema.has("maximum") ? Math.min(value, schema.get("maximum").asLong()) : value);
+            case "boolean":
+                return nodes.booleanNode(true);
+            default:
+                return nodes.nullNode();
+        }
+    }
+
+    private static JsonNode replace(JsonNode root, String pointer, JsonNode value) {
+        if (pointer.isEmpty()) {
+            return value.deepCopy();
+        }
+        JsonNode copy = root.deepCopy();
+        JsonPointer path = JsonPointer.compile(pointer);
+        JsonNode parent = copy.at(path.head());
+        String last = path.last().getMatchingProperty();
+        if (parent instanceof ObjectNode objectParent) {
+            objectParent.set(last, value.deepCopy());
+        } else if (parent instanceof ArrayNode arrayParent) {
+            arrayParent.set(Integer.parseInt(last), value.deepCopy());
+        }
+        return copy;
+    }
+}
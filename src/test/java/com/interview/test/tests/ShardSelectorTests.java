@@ -0,0 +1,87 @@
+package com.interview.test.tests;
+
+import com.interview.test.base.MethodInstanceStub;
+import com.interview.test.listeners.ShardSelector;
+import com.interview.test.utils.TestDurationHistory;
+import io.qameta.allure.*;
+import org.testng.IMethodInstance;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Shards must together run every method exactly once, keep dependent methods together and balance the
+ * historical durations.
+ */
+@Epic("Player Management API")
+@Feature("Test Scheduling")
+public class ShardSelectorTests {
+
+    @Test(groups = {"regression", "scheduling"})
+    @Story("Test Sharding")
+    @Description("Verify each method lands in exactly one shard, dependencies stay together and load is balanced")
+    @Severity(SeverityLevel.NORMAL)
+    public void testSplitsMethodsAcrossShardsByDuration() {
+        Map<String, Long> durations = new HashMap<>();
+        List<IMethodInstance> methods = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            String name = "test" + i;
+            durations.put(qualified(name), 100L * (i + 1));
+            methods.add(method(name).build());
+        }
+        // two chains that must not be split; "unknown" has no history
+        methods.add(method("dependent").dependsOnMethods(qualified("test11")).build());
+        methods.add(method("chained").dependsOnMethods(qualified("dependent")).build());
+        methods.add(method("unknown").build());
+        durations.put(qualified("dependent"), 50L);
+        durations.put(qualified("chained"), 50L);
+
+        int shardCount = 3;
+        Map<String, Integer> shardOf = new HashMap<>();
+        long[] load = new long[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (IMethodInstance method : new ShardSelector(shard, shardCount, durations).intercept(methods, null)) {
+                String name = method.getMethod().getMethodName();
+                assertNull(shardOf.put(name, shard), name + " selected by two shards");
+                load[shard] += durations.getOrDefault(method.getMethod().getQualifiedName(), 0L);
+            }
+        }
+
+        assertEquals(shardOf.size(), methods.size(), "Methods selected by no shard");
+        assertEquals(shardOf.get("dependent"), shardOf.get("test11"), "Dependency split across shards");
+        assertEquals(shardOf.get("chained"), shardOf.get("test11"), "Dependency chain split across shards");
+        long max = Math.max(load[0], Math.max(load[1], load[2]));
+        long min = Math.min(load[0], Math.min(load[1], load[2]));
+        assertTrue(max - min <= 1300, "Unbalanced shards " + Arrays.toString(load));
+    }
+
+    @Test(groups = {"regression", "scheduling"})
+    @Story("Test Sharding")
+    @Description("Verify measured durations are averaged into the history file and other entries are kept")
+    @Severity(SeverityLevel.MINOR)
+    public void testDurationHistoryAveragesRuns() throws Exception {
+        Path history = Files.createTempDirectory("durations").resolve("durations.properties");
+        TestDurationHistory.merge(history, Map.of("a.Test.first", 1000L, "a.Test.second", 300L));
+        TestDurationHistory.merge(history, Map.of("a.Test.first", 2000L));
+
+        Map<String, Long> stored = TestDurationHistory.load(history);
+        assertEquals(stored.get("a.Test.first"), Long.valueOf(1500L), "Averaged duration");
+        assertEquals(stored.get("a.Test.second"), Long.valueOf(300L), "Duration of a test not run again");
+    }
+
+    private static MethodInstanceStub method(String name) {
+        return MethodInstanceStub.of(ShardSelectorTests.class, name);
+    }
+
+    private static String qualified(String name) {
+        return MethodInstanceStub.qualified(ShardSelectorTests.class, name);
+    }
+}